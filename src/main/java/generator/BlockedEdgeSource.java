@@ -0,0 +1,64 @@
+package generator;
+
+import graph.core.CSRGraph;
+import graph.core.EdgeSink;
+import graph.core.EdgeSource;
+import graph.core.PartitionedGraphBuilder;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Base for seeded generators whose work splits into a fixed number of blocks. Block
+ * {@code b} draws only from the {@code b}-th {@link SplittableRandom} split off the
+ * top-level seed, so blocks can run on any thread in any order and the edges, once put
+ * back in block order, are the same for a given seed whatever the parallelism.
+ */
+public abstract class BlockedEdgeSource implements EdgeSource {
+    private final long seed;
+
+    protected BlockedEdgeSource(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Number of blocks; must depend only on the generator's parameters. */
+    protected abstract int getBlockCount();
+
+    /** Emits the edges of one block using only {@code random}. */
+    protected abstract void emitBlock(int block, SplittableRandom random, EdgeSink sink);
+
+    private SplittableRandom[] blockRandoms() {
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[getBlockCount()];
+        for (int b = 0; b < randoms.length; b++) {
+            randoms[b] = root.split();
+        }
+        return randoms;
+    }
+
+    @Override
+    public final void emit(EdgeSink sink) {
+        SplittableRandom[] randoms = blockRandoms();
+        for (int b = 0; b < randoms.length; b++) {
+            emitBlock(b, randoms[b], sink);
+        }
+    }
+
+    public CSRGraph generate() {
+        return generate(ForkJoinPool.commonPool());
+    }
+
+    /** Generates blocks in parallel on {@code pool}; the graph equals the one {@link #emit} describes. */
+    public CSRGraph generate(ForkJoinPool pool) {
+        SplittableRandom[] randoms = blockRandoms();
+        PartitionedGraphBuilder builder = new PartitionedGraphBuilder(
+                getVertexCount(), isDirected(), getWeightModel(), randoms.length);
+        pool.submit(() -> IntStream.range(0, randoms.length).parallel()
+                .forEach(b -> emitBlock(b, randoms[b], builder.partition(b)))).join();
+        return builder.build(pool);
+    }
+}
@@ -1,32 +1,41 @@
 package generator;
 
 import graph.core.Graph;
+import graph.core.CSRGraph;
+import graph.core.EdgeSource;
+import graph.core.GraphBinaryFormat;
+import graph.core.GraphView;
+import graph.core.LongHashSet;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonArray;
-import java.io.FileWriter;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
 
 public class GraphGenerator {
     private Random random;
+    private long seed;
     private Gson gson;
+    private LongHashSet edgeIndex; // packed (u, v) arcs of the graph being generated; reset per graph
 
     public GraphGenerator() {
-        this.random = new Random(42);
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this(42);
     }
 
     public GraphGenerator(long seed) {
+        this.seed = seed;
         this.random = new Random(seed);
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.edgeIndex = new LongHashSet();
     }
 
     public Graph generateGraph(int n, double edgeFactor, boolean includeCycles, String weightModel) {
         Graph graph = new Graph(n, true, weightModel);
+        edgeIndex = new LongHashSet((int) Math.min(Integer.MAX_VALUE, (long) (n * Math.max(1.0, edgeFactor))));
 
         if (includeCycles) {
             generateMeaningfulCyclicGraph(graph, n, edgeFactor);
@@ -48,16 +57,16 @@ public class GraphGenerator {
         addConnectingEdges(graph, n);
 
         int currentEdges = countEdges(graph);
-        int maxAttempts = n * n * 2;
-        int attempts = 0;
+        long maxAttempts = 2L * n * n;
+        long attempts = 0;
 
         while (currentEdges < targetEdges && attempts < maxAttempts) {
             int u = random.nextInt(n);
             int v = random.nextInt(n);
             int weight = random.nextInt(10) + 1;
 
-            if (u != v && !hasEdge(graph, u, v)) {
-                graph.addEdge(u, v, weight);
+            if (u != v && !hasEdge(u, v)) {
+                addEdge(graph, u, v, weight);
                 currentEdges++;
             }
             attempts++;
@@ -87,16 +96,16 @@ public class GraphGenerator {
                 for (int u : currentLayer) {
                     int v = nextLayer.get(random.nextInt(nextLayer.size()));
                     int weight = random.nextInt(10) + 1;
-                    if (!hasEdge(graph, u, v)) {
-                        graph.addEdge(u, v, weight);
+                    if (!hasEdge(u, v)) {
+                        addEdge(graph, u, v, weight);
                         edgesAdded++;
                     }
                 }
             }
         }
 
-        int maxAttempts = n * n;
-        int attempts = 0;
+        long maxAttempts = (long) n * n;
+        long attempts = 0;
 
         while (edgesAdded < targetEdges && attempts < maxAttempts) {
             int u = random.nextInt(n);
@@ -108,9 +117,9 @@ public class GraphGenerator {
                 v = random.nextInt(n);
             }
 
-            if (v > u && !hasEdge(graph, u, v)) {
+            if (v > u && !hasEdge(u, v)) {
                 int weight = random.nextInt(10) + 1;
-                graph.addEdge(u, v, weight);
+                addEdge(graph, u, v, weight);
                 edgesAdded++;
             }
             attempts++;
@@ -119,9 +128,9 @@ public class GraphGenerator {
         if (edgesAdded < targetEdges) {
             for (int u = 0; u < n && edgesAdded < targetEdges; u++) {
                 for (int v = u + 1; v < n && edgesAdded < targetEdges; v++) {
-                    if (!hasEdge(graph, u, v)) {
+                    if (!hasEdge(u, v)) {
                         int weight = random.nextInt(10) + 1;
-                        graph.addEdge(u, v, weight);
+                        addEdge(graph, u, v, weight);
                         edgesAdded++;
                     }
                 }
@@ -152,7 +161,7 @@ public class GraphGenerator {
             int u = cycleVertices.get(i);
             int v = cycleVertices.get((i + 1) % cycleSize);
             int weight = random.nextInt(10) + 1;
-            graph.addEdge(u, v, weight);
+            addEdge(graph, u, v, weight);
         }
     }
 
@@ -164,61 +173,116 @@ public class GraphGenerator {
             int v = n/2 + random.nextInt(n - n/2); // to second half
             int weight = random.nextInt(10) + 1;
 
-            if (!hasEdge(graph, u, v)) {
-                graph.addEdge(u, v, weight);
+            if (!hasEdge(u, v)) {
+                addEdge(graph, u, v, weight);
             }
         }
     }
 
-    private boolean hasEdge(Graph graph, int u, int v) {
-        for (graph.core.Edge edge : graph.getNeighbors(u)) {
-            if (edge.getTo() == v) {
-                return true;
-            }
-        }
-        return false;
+    private void addEdge(Graph graph, int u, int v, int weight) {
+        graph.addEdge(u, v, weight);
+        edgeIndex.add(LongHashSet.pack(u, v));
+    }
+
+    private boolean hasEdge(int u, int v) {
+        return edgeIndex.contains(LongHashSet.pack(u, v));
     }
 
     private int countEdges(Graph graph) {
-        int count = 0;
-        for (int i = 0; i < graph.getVertexCount(); i++) {
-            count += graph.getNeighbors(i).size();
-        }
-        return count;
+        return graph.getEdgeCount();
+    }
+
+    /**
+     * Streams the graph to JSON, emitting each edge straight from the adjacency so memory
+     * use stays flat regardless of edge count. Output matches the pretty-printed layout
+     * and key order of earlier datasets.
+     */
+    public void saveToJSON(GraphView g, String filepath, Integer source) throws IOException {
+        writeJSON(filepath, g.isDirected(), g.getVertexCount(), g.getWeightModel(), source, writer -> {
+            for (int u = 0; u < g.getVertexCount(); u++) {
+                int degree = g.getOutDegree(u);
+                for (int i = 0; i < degree; i++) {
+                    writeEdge(writer, u, g.getNeighbor(u, i), g.getNeighborWeight(u, i));
+                }
+            }
+        });
+    }
+
+    /** Streams a generated edge source to JSON without materializing the graph. */
+    public void saveToJSON(EdgeSource edges, String filepath, Integer source) throws IOException {
+        writeJSON(filepath, edges.isDirected(), edges.getVertexCount(), edges.getWeightModel(), source, writer -> {
+            try {
+                edges.emit((u, v, w) -> {
+                    try {
+                        writeEdge(writer, u, v, w);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
     }
 
-    public void saveToJSON(Graph g, String filepath, Integer source) throws IOException {
+    private interface EdgeWriter {
+        void writeEdges(JsonWriter writer) throws IOException;
+    }
+
+    private void writeJSON(String filepath, boolean directed, int n, String weightModel, Integer source,
+                           EdgeWriter edges) throws IOException {
         java.io.File directory = new java.io.File(filepath).getParentFile();
         if (directory != null && !directory.exists()) {
             directory.mkdirs();
         }
 
-        JsonObject jsonObject = new JsonObject();
+        try (JsonWriter writer = gson.newJsonWriter(
+                Files.newBufferedWriter(Paths.get(filepath), StandardCharsets.UTF_8))) {
+            writer.beginObject();
+            writer.name("directed").value(directed);
+            writer.name("n").value(n);
 
-        jsonObject.addProperty("directed", g.isDirected());
-        jsonObject.addProperty("n", g.getVertexCount());
+            writer.name("edges").beginArray();
+            edges.writeEdges(writer);
+            writer.endArray();
 
-        JsonArray edgesArray = new JsonArray();
-        for (int u = 0; u < g.getVertexCount(); u++) {
-            for (graph.core.Edge edge : g.getNeighbors(u)) {
-                JsonObject edgeObject = new JsonObject();
-                edgeObject.addProperty("u", edge.getFrom());
-                edgeObject.addProperty("v", edge.getTo());
-                edgeObject.addProperty("w", edge.getWeight());
-                edgesArray.add(edgeObject);
+            if (source != null) {
+                writer.name("source").value(source);
             }
+
+            writer.name("weight_model").value(weightModel);
+            writer.endObject();
         }
-        jsonObject.add("edges", edgesArray);
+    }
 
-        if (source != null) {
-            jsonObject.addProperty("source", source);
+    private static void writeEdge(JsonWriter writer, int u, int v, int w) throws IOException {
+        writer.beginObject();
+        writer.name("u").value(u);
+        writer.name("v").value(v);
+        writer.name("w").value(w);
+        writer.endObject();
+    }
+
+    public void saveToBinary(GraphView g, String filepath, Integer source) throws IOException {
+        java.io.File directory = new java.io.File(filepath).getParentFile();
+        if (directory != null && !directory.exists()) {
+            directory.mkdirs();
         }
 
-        jsonObject.addProperty("weight_model", g.getWeightModel());
+        GraphBinaryFormat.write(g, source, Paths.get(filepath));
+    }
 
-        try (FileWriter writer = new FileWriter(filepath)) {
-            gson.toJson(jsonObject, writer);
+    /**
+     * Writes a generated edge source in the binary format in two passes (degree count,
+     * then scatter into a mapped file), holding only one int per vertex on the heap.
+     */
+    public void saveToBinary(EdgeSource edges, String filepath, Integer source) throws IOException {
+        java.io.File directory = new java.io.File(filepath).getParentFile();
+        if (directory != null && !directory.exists()) {
+            directory.mkdirs();
         }
+
+        GraphBinaryFormat.write(edges, source, Paths.get(filepath));
     }
 
     public void generateAllDatasets() {
@@ -306,6 +370,25 @@ public class GraphGenerator {
         System.out.println("  ✅ large_3.json created: " + getGraphStatistics(large3));
     }
 
+    /** Builds a stress workload in memory, generating its blocks in parallel. */
+    public CSRGraph generateWorkload(WorkloadProfile profile, int n) {
+        return new WorkloadGenerator(profile, n, seed).generate();
+    }
+
+    /** Streams a stress workload to the binary format without materializing it; vertex 0 is the source. */
+    public void saveWorkload(WorkloadProfile profile, int n, String filepath) throws IOException {
+        saveToBinary(new WorkloadGenerator(profile, n, seed), filepath, 0);
+    }
+
+    /** Writes every workload profile at size {@code n} to {@code data/workloads/<profile>_<n>.bin}. */
+    public void generateWorkloadDatasets(int n) throws IOException {
+        for (WorkloadProfile profile : WorkloadProfile.values()) {
+            String filepath = "data/workloads/" + profile.name().toLowerCase() + "_" + n + ".bin";
+            saveWorkload(profile, n, filepath);
+            System.out.println("  ✅ " + filepath + " created");
+        }
+    }
+
     public String getGraphStatistics(Graph graph) {
         int vertices = graph.getVertexCount();
         int edges = countEdges(graph);
@@ -0,0 +1,86 @@
+package generator;
+
+import graph.core.EdgeSink;
+import java.util.SplittableRandom;
+
+/**
+ * Layered task DAG: {@code layers} layers of {@code width} vertices, vertex
+ * {@code layer * width + k}. Every vertex outside the last layer gets {@code fanOut} arcs
+ * into one of the next {@code span} layers, so all arcs point to higher ids. Within a
+ * target layer the vertex is drawn as {@code width * r^skew}; a skew above 1 concentrates
+ * arcs on a few hubs and gives a power-law in-degree. Edges are produced on demand from
+ * the seed, in blocks of consecutive source vertices that can be generated in parallel,
+ * and repeated arcs are kept as drawn.
+ */
+public class LayeredDagGenerator extends BlockedEdgeSource {
+    private static final int MAX_WEIGHT = 10;
+    private static final int BLOCK_VERTICES = 1 << 12;
+
+    private final int layers;
+    private final int width;
+    private final int fanOut;
+    private final int span;
+    private final double skew;
+    private final String weightModel;
+
+    public LayeredDagGenerator(int layers, int width, int fanOut, long seed) {
+        this(layers, width, fanOut, 2, 2.0, "edge", seed);
+    }
+
+    public LayeredDagGenerator(int layers, int width, int fanOut, int span, double skew,
+                               String weightModel, long seed) {
+        super(seed);
+        if (layers <= 0 || width <= 0 || fanOut < 0 || span <= 0 || skew <= 0
+                || (long) layers * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid layered DAG shape: " + layers + " x " + width
+                    + ", fanOut=" + fanOut + ", span=" + span + ", skew=" + skew);
+        }
+        this.layers = layers;
+        this.width = width;
+        this.fanOut = fanOut;
+        this.span = span;
+        this.skew = skew;
+        this.weightModel = weightModel;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return layers * width;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    public long getEdgeCount() {
+        return (long) (layers - 1) * width * fanOut;
+    }
+
+    @Override
+    protected int getBlockCount() {
+        long sources = (long) (layers - 1) * width;
+        return (int) ((sources + BLOCK_VERTICES - 1) / BLOCK_VERTICES);
+    }
+
+    @Override
+    protected void emitBlock(int block, SplittableRandom random, EdgeSink sink) {
+        int start = block * BLOCK_VERTICES;
+        int end = (int) Math.min((long) (layers - 1) * width, (long) start + BLOCK_VERTICES);
+
+        for (int u = start; u < end; u++) {
+            int layer = u / width;
+            int reach = Math.min(span, layers - 1 - layer);
+            for (int f = 0; f < fanOut; f++) {
+                int targetLayer = layer + 1 + random.nextInt(reach);
+                int index = Math.min(width - 1, (int) (width * Math.pow(random.nextDouble(), skew)));
+                sink.addEdge(u, targetLayer * width + index, random.nextInt(MAX_WEIGHT) + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package generator;
+
+import graph.core.EdgeSink;
+import java.util.SplittableRandom;
+
+/**
+ * R-MAT generator, i.e. a stochastic Kronecker graph with a 2x2 initiator: each edge picks
+ * one quadrant of the adjacency matrix per level with probabilities a, b, c and
+ * 1 - a - b - c, which yields the skewed, power-law degrees of real task graphs. Edges
+ * are produced on demand from the seed, so graphs far larger than the heap can be
+ * streamed to disk or generated in parallel; edges are split into fixed-size index blocks
+ * since, unlike vertex-ordered generators, no vertex owns an R-MAT edge. Self-loops and
+ * repeated edges are kept as drawn.
+ */
+public class RMatGenerator extends BlockedEdgeSource {
+    private static final int MAX_WEIGHT = 10;
+    private static final int BLOCK_EDGES = 1 << 16;
+
+    private final int n;
+    private final int scale;
+    private final long edgeCount;
+    private final double a;
+    private final double b;
+    private final double c;
+    private final boolean directed;
+    private final String weightModel;
+
+    /** Uses the Graph500 quadrant probabilities (0.57, 0.19, 0.19, 0.05). */
+    public RMatGenerator(int n, long edgeCount, long seed) {
+        this(n, edgeCount, 0.57, 0.19, 0.19, true, "edge", seed);
+    }
+
+    public RMatGenerator(int n, long edgeCount, double a, double b, double c,
+                         boolean directed, String weightModel, long seed) {
+        super(seed);
+        if (n <= 0 || edgeCount < 0) {
+            throw new IllegalArgumentException("Invalid R-MAT size: n=" + n + ", edges=" + edgeCount);
+        }
+        if ((edgeCount + BLOCK_EDGES - 1) / BLOCK_EDGES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many R-MAT edges: " + edgeCount);
+        }
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Invalid R-MAT probabilities: " + a + ", " + b + ", " + c);
+        }
+        this.n = n;
+        this.scale = 32 - Integer.numberOfLeadingZeros(n - 1);
+        this.edgeCount = edgeCount;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.directed = directed;
+        this.weightModel = weightModel;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    protected int getBlockCount() {
+        return (int) ((edgeCount + BLOCK_EDGES - 1) / BLOCK_EDGES);
+    }
+
+    @Override
+    protected void emitBlock(int block, SplittableRandom random, EdgeSink sink) {
+        long end = Math.min(edgeCount, (long) (block + 1) * BLOCK_EDGES);
+        double ab = a + b;
+        double abc = a + b + c;
+
+        for (long e = (long) block * BLOCK_EDGES; e < end; e++) {
+            int u;
+            int v;
+            // Draw over the enclosing 2^scale matrix and reject cells outside n x n
+            do {
+                u = 0;
+                v = 0;
+                for (int level = 0; level < scale; level++) {
+                    double r = random.nextDouble();
+                    u <<= 1;
+                    v <<= 1;
+                    if (r >= abc) {
+                        u |= 1;
+                        v |= 1;
+                    } else if (r >= ab) {
+                        u |= 1;
+                    } else if (r >= a) {
+                        v |= 1;
+                    }
+                }
+            } while (u >= n || v >= n);
+
+            sink.addEdge(u, v, random.nextInt(MAX_WEIGHT) + 1);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package generator;
+
+import graph.core.EdgeSink;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded edge source for a {@link WorkloadProfile}. Edges are emitted per source vertex
+ * in blocks of consecutive vertices, so workloads stream to disk or generate in parallel
+ * like the other {@link BlockedEdgeSource} generators.
+ */
+public class WorkloadGenerator extends BlockedEdgeSource {
+    private static final int MAX_WEIGHT = 10;
+    private static final int BLOCK_VERTICES = 1 << 12;
+
+    static final int GIANT_SCC_CHORDS = 2;
+    static final int SINGLETON_FAN_OUT = 3;
+    static final int WIDE_LAYER_COUNT = 4;
+    static final int WIDE_LAYER_FAN_OUT = 4;
+    static final int HUB_COUNT = 4;
+
+    private final WorkloadProfile profile;
+    private final int n;
+
+    public WorkloadGenerator(WorkloadProfile profile, int n, long seed) {
+        super(seed);
+        if (n <= 0) {
+            throw new IllegalArgumentException("Workload size must be positive: " + n);
+        }
+        this.profile = profile;
+        this.n = n;
+    }
+
+    public WorkloadProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return "edge";
+    }
+
+    @Override
+    protected int getBlockCount() {
+        return (n + BLOCK_VERTICES - 1) / BLOCK_VERTICES;
+    }
+
+    @Override
+    protected void emitBlock(int block, SplittableRandom random, EdgeSink sink) {
+        int start = block * BLOCK_VERTICES;
+        int end = (int) Math.min(n, (long) start + BLOCK_VERTICES);
+        for (int u = start; u < end; u++) {
+            emitVertex(u, random, sink);
+        }
+    }
+
+    private void emitVertex(int u, SplittableRandom random, EdgeSink sink) {
+        switch (profile) {
+            case DEEP_CHAIN:
+                if (u + 1 < n) {
+                    sink.addEdge(u, u + 1, weight(random));
+                }
+                break;
+            case GIANT_SCC:
+                sink.addEdge(u, (u + 1) % n, weight(random));
+                if (n > 1) {
+                    for (int i = 0; i < GIANT_SCC_CHORDS; i++) {
+                        int v = random.nextInt(n - 1);
+                        sink.addEdge(u, v >= u ? v + 1 : v, weight(random));
+                    }
+                }
+                break;
+            case SINGLETON_SCCS:
+                if (u + 1 < n) {
+                    for (int i = 0; i < SINGLETON_FAN_OUT; i++) {
+                        sink.addEdge(u, u + 1 + random.nextInt(n - u - 1), weight(random));
+                    }
+                }
+                break;
+            case WIDE_LAYERS:
+                int width = (n + WIDE_LAYER_COUNT - 1) / WIDE_LAYER_COUNT;
+                int nextStart = (u / width + 1) * width;
+                if (nextStart < n) {
+                    int nextWidth = Math.min(width, n - nextStart);
+                    for (int i = 0; i < WIDE_LAYER_FAN_OUT; i++) {
+                        sink.addEdge(u, nextStart + random.nextInt(nextWidth), weight(random));
+                    }
+                }
+                break;
+            case HUB_FANOUT:
+                int hubs = Math.min(HUB_COUNT, n);
+                if (u < hubs) {
+                    for (int v = hubs; v < n; v++) {
+                        sink.addEdge(u, v, weight(random));
+                    }
+                } else if (u + 1 < n) {
+                    sink.addEdge(u, u + 1 + random.nextInt(n - u - 1), weight(random));
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown workload profile: " + profile);
+        }
+    }
+
+    private static int weight(SplittableRandom random) {
+        return random.nextInt(MAX_WEIGHT) + 1;
+    }
+}
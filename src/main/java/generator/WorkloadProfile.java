@@ -0,0 +1,18 @@
+package generator;
+
+/**
+ * Graph shapes that stress one hot path each, for benchmarks and regression runs.
+ * Sizes are given in vertices; see {@link WorkloadGenerator} for the exact shapes.
+ */
+public enum WorkloadProfile {
+    /** A single path; DFS recursion goes as deep as the vertex count. */
+    DEEP_CHAIN,
+    /** A Hamiltonian cycle plus random chords: one component holding every vertex. */
+    GIANT_SCC,
+    /** A random forward-only DAG: every vertex is its own component. */
+    SINGLETON_SCCS,
+    /** Four very wide layers, so Kahn's queue holds a quarter of the graph at once. */
+    WIDE_LAYERS,
+    /** A few hubs with an arc to every other vertex, over a sparse forward DAG. */
+    HUB_FANOUT
+}
@@ -0,0 +1,52 @@
+package graph.cache;
+
+import graph.core.GraphView;
+
+/**
+ * 64-bit structural hash of a graph: vertex count, directedness, weight model and every
+ * arc with its weight, in adjacency order. Equal graphs get equal fingerprints no matter
+ * which representation holds them.
+ */
+public final class GraphFingerprint {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private GraphFingerprint() {
+    }
+
+    public static long of(GraphView g) {
+        int n = g.getVertexCount();
+        long h = mix(SEED, n);
+        h = mix(h, g.isDirected() ? 1 : 0);
+        h = mix(h, g.getWeightModel() == null ? 0 : g.getWeightModel().hashCode());
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            h = mix(h, degree);
+            for (int i = 0; i < degree; i++) {
+                h = mix(h, ((long) g.getNeighbor(u, i) << 32) | (g.getNeighborWeight(u, i) & 0xFFFFFFFFL));
+            }
+        }
+        return fmix64(h);
+    }
+
+    /** Combines a fingerprint with stage parameters into a single key. */
+    public static long withParameters(long fingerprint, String parameters) {
+        long h = mix(fingerprint, parameters.length());
+        for (int i = 0; i < parameters.length(); i++) {
+            h = mix(h, parameters.charAt(i));
+        }
+        return fmix64(h);
+    }
+
+    private static long mix(long h, long value) {
+        return Long.rotateLeft(h ^ fmix64(value), 27) * 5 + 0x52DCE729L;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
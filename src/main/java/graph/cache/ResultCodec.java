@@ -0,0 +1,12 @@
+package graph.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/** Binary encoding of one kind of stage result for {@link ResultStore}. */
+public interface ResultCodec<R> {
+    void write(DataOutput out, R result) throws IOException;
+
+    R read(DataInput in) throws IOException;
+}
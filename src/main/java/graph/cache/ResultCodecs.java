@@ -0,0 +1,144 @@
+package graph.cache;
+
+import graph.core.CSRGraph;
+import graph.core.GraphView;
+import graph.dagsp.PathResult;
+import graph.scc.SCCResult;
+import graph.topo.TopoResult;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/** Codecs for the results of the analysis pipeline stages. */
+public final class ResultCodecs {
+    private ResultCodecs() {
+    }
+
+    public static final ResultCodec<SCCResult> SCC = new ResultCodec<SCCResult>() {
+        @Override
+        public void write(DataOutput out, SCCResult result) throws IOException {
+            out.writeInt(result.getComponentCount());
+            for (List<Integer> component : result.getComponents()) {
+                writeInts(out, component);
+            }
+            writeGraph(out, result.getCondensationCSR());
+        }
+
+        @Override
+        public SCCResult read(DataInput in) throws IOException {
+            int count = in.readInt();
+            List<List<Integer>> components = new ArrayList<>(count);
+            int n = 0;
+            for (int c = 0; c < count; c++) {
+                List<Integer> component = readInts(in);
+                n += component.size();
+                components.add(component);
+            }
+            int[] componentOf = new int[n];
+            for (int c = 0; c < count; c++) {
+                for (int v : components.get(c)) {
+                    componentOf[v] = c;
+                }
+            }
+            return new SCCResult(components, componentOf, readGraph(in));
+        }
+    };
+
+    public static final ResultCodec<TopoResult> TOPO = new ResultCodec<TopoResult>() {
+        @Override
+        public void write(DataOutput out, TopoResult result) throws IOException {
+            out.writeBoolean(result.isDAG());
+            writeInts(out, result.getOrder());
+        }
+
+        @Override
+        public TopoResult read(DataInput in) throws IOException {
+            boolean isDAG = in.readBoolean();
+            return new TopoResult(readInts(in), isDAG);
+        }
+    };
+
+    public static final ResultCodec<PathResult> PATH = new ResultCodec<PathResult>() {
+        @Override
+        public void write(DataOutput out, PathResult result) throws IOException {
+            out.writeByte(result.getPathType().ordinal());
+            out.writeInt(result.getSource());
+            writeInts(out, result.getDistances());
+            writeInts(out, result.getParents());
+            writeInts(out, result.getCriticalPath());
+            out.writeInt(result.getCriticalPathLength());
+        }
+
+        @Override
+        public PathResult read(DataInput in) throws IOException {
+            PathResult.PathType type = PathResult.PathType.values()[in.readByte()];
+            int source = in.readInt();
+            int[] distances = readIntArray(in);
+            int[] parent = readIntArray(in);
+            PathResult result = new PathResult(distances, parent, source, type);
+            result.setCriticalPath(readInts(in));
+            result.setCriticalPathLength(in.readInt());
+            return result;
+        }
+    };
+
+    /** Condensations are directed by construction, so only arcs and the weight model are stored. */
+    private static void writeGraph(DataOutput out, GraphView g) throws IOException {
+        int n = g.getVertexCount();
+        out.writeInt(n);
+        out.writeUTF(g.getWeightModel());
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            out.writeInt(degree);
+            for (int i = 0; i < degree; i++) {
+                out.writeInt(g.getNeighbor(u, i));
+                out.writeInt(g.getNeighborWeight(u, i));
+            }
+        }
+    }
+
+    private static CSRGraph readGraph(DataInput in) throws IOException {
+        int n = in.readInt();
+        CSRGraph.Builder g = new CSRGraph.Builder(n, true, in.readUTF());
+        for (int u = 0; u < n; u++) {
+            int degree = in.readInt();
+            for (int i = 0; i < degree; i++) {
+                int v = in.readInt();
+                g.addEdge(u, v, in.readInt());
+            }
+        }
+        return g.build();
+    }
+
+    private static void writeInts(DataOutput out, List<Integer> values) throws IOException {
+        out.writeInt(values.size());
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeInts(DataOutput out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static List<Integer> readInts(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readInt());
+        }
+        return values;
+    }
+
+    private static int[] readIntArray(DataInput in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+}
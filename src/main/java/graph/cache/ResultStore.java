@@ -0,0 +1,122 @@
+package graph.cache;
+
+import graph.metrics.Metrics;
+import graph.metrics.MetricsCollector;
+import graph.metrics.RecordedMetrics;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Function;
+
+/**
+ * Persistent store of pipeline stage results. Each entry is keyed by the fingerprint of the
+ * stage's input graph, the stage parameters and the stage's result version, and holds the
+ * result together with the metrics of the run that produced it. A stage is recomputed
+ * only when no entry matches; unreadable entries are treated as missing. Callers bump a
+ * stage's version whenever its algorithm changes results or metrics, so runs of older
+ * code are never replayed as current measurements.
+ */
+public class ResultStore {
+    private static final int MAGIC = 0x53435253; // "SCRS"
+    private static final int VERSION = 2;
+
+    private final Path directory;
+
+    public ResultStore(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /** A stage result together with the metrics of the run that computed it. */
+    public static class Entry<R> {
+        private final R result;
+        private final RecordedMetrics metrics;
+        private final boolean cached;
+
+        Entry(R result, RecordedMetrics metrics, boolean cached) {
+            this.result = result;
+            this.metrics = metrics;
+            this.cached = cached;
+        }
+
+        public R getResult() {
+            return result;
+        }
+
+        public RecordedMetrics getMetrics() {
+            return metrics;
+        }
+
+        /** True if the result was read from the store rather than computed in this call. */
+        public boolean isCached() {
+            return cached;
+        }
+    }
+
+    /**
+     * Returns the stored result for {@code stage} at {@code version} on a graph with the given
+     * fingerprint and parameters, or runs {@code compute} with fresh metrics and stores what
+     * it returns.
+     */
+    public <R> Entry<R> memoize(String stage, int version, long fingerprint, String parameters,
+                                ResultCodec<R> codec, Function<Metrics, R> compute) {
+        long key = GraphFingerprint.withParameters(fingerprint, stage + "@" + version + ":" + parameters);
+        Path file = directory.resolve(String.format("%s-%016x.bin", stage, key));
+
+        if (Files.isRegularFile(file)) {
+            Entry<R> entry = read(file, fingerprint, stage, version, parameters, codec);
+            if (entry != null) {
+                return entry;
+            }
+        }
+
+        MetricsCollector metrics = new MetricsCollector();
+        R result = compute.apply(metrics);
+        try {
+            write(file, fingerprint, stage, version, parameters, codec, result, metrics);
+        } catch (IOException e) {
+            // The store is only an accelerator; a failed write leaves the result usable
+        }
+        return new Entry<>(result, RecordedMetrics.of(metrics), false);
+    }
+
+    private <R> Entry<R> read(Path file, long fingerprint, String stage, int version, String parameters,
+                              ResultCodec<R> codec) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != fingerprint
+                    || !in.readUTF().equals(stage) || in.readInt() != version || !in.readUTF().equals(parameters)) {
+                return null;
+            }
+            RecordedMetrics metrics = new RecordedMetrics(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readLong());
+            return new Entry<>(codec.read(in), metrics, true);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private <R> void write(Path file, long fingerprint, String stage, int version, String parameters,
+                           ResultCodec<R> codec, R result, Metrics metrics) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(fingerprint);
+            out.writeUTF(stage);
+            out.writeInt(version);
+            out.writeUTF(parameters);
+            out.writeInt(metrics.getDFSVisits());
+            out.writeInt(metrics.getEdgeTraversals());
+            out.writeInt(metrics.getRelaxations());
+            out.writeInt(metrics.getQueueOperations());
+            out.writeLong(metrics.getExecutionTimeNanos());
+            codec.write(out, result);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,212 @@
+package graph.core;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed-sparse-row graph. The arcs of vertex {@code u} occupy
+ * {@code targets[offsets[u] .. offsets[u + 1])} and the matching slots of {@code weights},
+ * in the order they were added.
+ */
+public final class CSRGraph implements GraphView {
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private volatile CSRGraph transpose;
+
+    CSRGraph(int n, boolean directed, String weightModel, int[] offsets, int[] targets, int[] weights) {
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static CSRGraph fromGraph(GraphView g) {
+        if (g instanceof CSRGraph) {
+            return (CSRGraph) g;
+        }
+
+        int n = g.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + g.getOutDegree(u);
+        }
+
+        int m = offsets[n];
+        int[] targets = new int[m];
+        int[] weights = new int[m];
+        for (int u = 0; u < n; u++) {
+            int base = offsets[u];
+            int degree = offsets[u + 1] - base;
+            for (int i = 0; i < degree; i++) {
+                targets[base + i] = g.getNeighbor(u, i);
+                weights[base + i] = g.getNeighborWeight(u, i);
+            }
+        }
+
+        return new CSRGraph(n, g.isDirected(), g.getWeightModel(), offsets, targets, weights);
+    }
+
+    /**
+     * Builds the reverse graph with one counting-sort pass over the arcs. In-arcs of each
+     * vertex are ordered by source. An undirected graph is its own transpose.
+     */
+    public static CSRGraph transposeOf(GraphView g) {
+        if (!g.isDirected()) {
+            return fromGraph(g);
+        }
+
+        int n = g.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                offsets[g.getNeighbor(u, i) + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, n);
+        int[] sources = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                int slot = cursor[g.getNeighbor(u, i)]++;
+                sources[slot] = u;
+                weights[slot] = g.getNeighborWeight(u, i);
+            }
+        }
+
+        CSRGraph reverse = new CSRGraph(n, true, g.getWeightModel(), offsets, sources, weights);
+        if (g instanceof CSRGraph) {
+            reverse.transpose = (CSRGraph) g;
+        }
+        return reverse;
+    }
+
+    /** Cached reverse graph, built on first use; its own transpose is this graph. */
+    @Override
+    public CSRGraph getTranspose() {
+        if (!directed) {
+            return this;
+        }
+        CSRGraph t = transpose;
+        if (t == null) {
+            t = transposeOf(this);
+            transpose = t;
+        }
+        return t;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    @Override
+    public int getOutDegree(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    @Override
+    public int getNeighbor(int u, int index) {
+        return targets[offsets[u] + index];
+    }
+
+    @Override
+    public int getNeighborWeight(int u, int index) {
+        return weights[offsets[u] + index];
+    }
+
+    @Override
+    public void forEachNeighbor(int u, NeighborConsumer action) {
+        for (int e = offsets[u], end = offsets[u + 1]; e < end; e++) {
+            action.accept(targets[e], weights[e]);
+        }
+    }
+
+    // Raw arrays for package-internal bulk consumers; never exposed or mutated.
+    int[] offsets() { return offsets; }
+    int[] targets() { return targets; }
+    int[] weights() { return weights; }
+
+    @Override
+    public String toString() {
+        return String.format("CSRGraph (vertices: %d, arcs: %d, directed: %s, weight model: %s)",
+                n, targets.length, directed, weightModel);
+    }
+
+    /**
+     * Collects arcs into primitive buffers and freezes them into a {@link CSRGraph}
+     * with a single counting-sort pass. Arcs of each vertex keep insertion order.
+     */
+    public static final class Builder {
+        private final int n;
+        private final boolean directed;
+        private final String weightModel;
+        private final EdgeBuffer edges;
+
+        public Builder(int n, boolean directed) {
+            this(n, directed, "edge");
+        }
+
+        public Builder(int n, boolean directed, String weightModel) {
+            this(n, directed, weightModel, 16);
+        }
+
+        public Builder(int n, boolean directed, String weightModel, int expectedEdges) {
+            if (n < 0) {
+                throw new IllegalArgumentException("Vertex count must be non-negative: " + n);
+            }
+            int capacity = directed ? expectedEdges : 2 * expectedEdges;
+            this.n = n;
+            this.directed = directed;
+            this.weightModel = weightModel;
+            this.edges = new EdgeBuffer(capacity);
+        }
+
+        public Builder addEdge(int u, int v, int w) {
+            if (u < 0 || u >= n || v < 0 || v >= n) {
+                throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
+            }
+
+            edges.addEdge(u, v, w);
+
+            // If undirected, add reverse edge
+            if (!directed) {
+                edges.addEdge(v, u, w);
+            }
+            return this;
+        }
+
+        public int getEdgeCount() {
+            return edges.size();
+        }
+
+        public CSRGraph build() {
+            return edges.toCSR(n, directed, weightModel);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package graph.core;
+
+import java.util.Arrays;
+
+/**
+ * Immutable graph storing each vertex's neighbor list sorted by target and gap-encoded as
+ * LEB128 varints, with weights packed at the narrowest of 1, 2 or 4 bytes that fits them.
+ * A sparse graph with small weights takes roughly 2-3 bytes per arc instead of the 8 of
+ * {@link CSRGraph}.
+ *
+ * <p>Lists are cut into blocks of {@value #BLOCK} arcs whose first target is encoded
+ * relative to the source vertex, so {@link #getNeighbor} decodes at most one block while
+ * {@link #forEachNeighbor} streams the whole list and {@link #neighborCursor} resumes each
+ * list where it stopped. Arc order is by target, not insertion.
+ */
+public final class CompressedGraph implements GraphView {
+    static final int BLOCK = 16;
+
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final int[] arcOffsets;   // arcs of u are [arcOffsets[u], arcOffsets[u + 1])
+    private final int[] firstBlock;   // blocks of u are [firstBlock[u], firstBlock[u + 1])
+    private final int[] blockOffsets; // byte position of each block in data
+    private final byte[] data;
+    private final byte[] weights8;
+    private final short[] weights16;
+    private final int[] weights32;
+
+    private CompressedGraph(int n, boolean directed, String weightModel, int[] arcOffsets, int[] firstBlock,
+                            int[] blockOffsets, byte[] data, byte[] weights8, short[] weights16, int[] weights32) {
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.arcOffsets = arcOffsets;
+        this.firstBlock = firstBlock;
+        this.blockOffsets = blockOffsets;
+        this.data = data;
+        this.weights8 = weights8;
+        this.weights16 = weights16;
+        this.weights32 = weights32;
+    }
+
+    public static CompressedGraph fromGraph(GraphView g) {
+        int n = g.getVertexCount();
+        int m = g.getEdgeCount();
+
+        int minWeight = 0;
+        int maxWeight = 0;
+        int[] arcOffsets = new int[n + 1];
+        int[] firstBlock = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            arcOffsets[u + 1] = arcOffsets[u] + degree;
+            firstBlock[u + 1] = firstBlock[u] + (degree + BLOCK - 1) / BLOCK;
+            for (int i = 0; i < degree; i++) {
+                int w = g.getNeighborWeight(u, i);
+                minWeight = Math.min(minWeight, w);
+                maxWeight = Math.max(maxWeight, w);
+            }
+        }
+
+        byte[] weights8 = null;
+        short[] weights16 = null;
+        int[] weights32 = null;
+        if (minWeight >= Byte.MIN_VALUE && maxWeight <= Byte.MAX_VALUE) {
+            weights8 = new byte[m];
+        } else if (minWeight >= Short.MIN_VALUE && maxWeight <= Short.MAX_VALUE) {
+            weights16 = new short[m];
+        } else {
+            weights32 = new int[m];
+        }
+
+        int[] blockOffsets = new int[firstBlock[n]];
+        byte[] data = new byte[Math.max(16, m * 2)];
+        int position = 0;
+        long[] sorted = new long[16];
+
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            if (sorted.length < degree) {
+                sorted = new long[Math.max(degree, sorted.length * 2)];
+            }
+            for (int i = 0; i < degree; i++) {
+                sorted[i] = ((long) g.getNeighbor(u, i) << 32) | (g.getNeighborWeight(u, i) & 0xFFFFFFFFL);
+            }
+            Arrays.sort(sorted, 0, degree);
+
+            int previous = u;
+            for (int i = 0; i < degree; i++) {
+                int target = (int) (sorted[i] >>> 32);
+                int weight = (int) sorted[i];
+                int arc = arcOffsets[u] + i;
+
+                if (data.length - position < 5) {
+                    data = Arrays.copyOf(data, data.length + (data.length >> 1) + 5);
+                }
+                if (i % BLOCK == 0) {
+                    blockOffsets[firstBlock[u] + i / BLOCK] = position;
+                    position = writeVarint(data, position, zigZag(target - u));
+                } else {
+                    position = writeVarint(data, position, target - previous);
+                }
+                previous = target;
+
+                if (weights8 != null) {
+                    weights8[arc] = (byte) weight;
+                } else if (weights16 != null) {
+                    weights16[arc] = (short) weight;
+                } else {
+                    weights32[arc] = weight;
+                }
+            }
+        }
+
+        return new CompressedGraph(n, g.isDirected(), g.getWeightModel(), arcOffsets, firstBlock, blockOffsets,
+                Arrays.copyOf(data, position), weights8, weights16, weights32);
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return arcOffsets[n];
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    @Override
+    public int getOutDegree(int u) {
+        return arcOffsets[u + 1] - arcOffsets[u];
+    }
+
+    @Override
+    public int getNeighbor(int u, int index) {
+        if (index < 0 || index >= getOutDegree(u)) {
+            throw new IndexOutOfBoundsException("Arc " + index + " of vertex " + u);
+        }
+
+        int position = blockOffsets[firstBlock[u] + index / BLOCK];
+        int value = 0;
+        int shift = 0;
+        int target = 0;
+        // Decode the block head plus (index % BLOCK) gaps
+        for (int k = 0; k <= index % BLOCK; ) {
+            byte b = data[position++];
+            value |= (b & 0x7F) << shift;
+            if (b < 0) {
+                shift += 7;
+                continue;
+            }
+            target = k == 0 ? u + unZigZag(value) : target + value;
+            value = 0;
+            shift = 0;
+            k++;
+        }
+        return target;
+    }
+
+    @Override
+    public int getNeighborWeight(int u, int index) {
+        if (index < 0 || index >= getOutDegree(u)) {
+            throw new IndexOutOfBoundsException("Arc " + index + " of vertex " + u);
+        }
+        return weightAt(arcOffsets[u] + index);
+    }
+
+    @Override
+    public void forEachNeighbor(int u, NeighborConsumer action) {
+        int position = firstBlock[u] == firstBlock[u + 1] ? 0 : blockOffsets[firstBlock[u]];
+        int target = 0;
+        int value = 0;
+        int shift = 0;
+        for (int arc = arcOffsets[u], i = 0, end = arcOffsets[u + 1]; arc < end; ) {
+            byte b = data[position++];
+            value |= (b & 0x7F) << shift;
+            if (b < 0) {
+                shift += 7;
+                continue;
+            }
+            target = i % BLOCK == 0 ? u + unZigZag(value) : target + value;
+            action.accept(target, weightAt(arc));
+            value = 0;
+            shift = 0;
+            arc++;
+            i++;
+        }
+    }
+
+    /** Keeps the next byte position and last target per vertex, so each arc is decoded once. */
+    @Override
+    public NeighborCursor neighborCursor() {
+        int[] read = new int[n];
+        int[] position = new int[n];
+        int[] previous = new int[n];
+        return new NeighborCursor() {
+            @Override
+            public boolean hasNext(int u) {
+                return read[u] < getOutDegree(u);
+            }
+
+            @Override
+            public int next(int u) {
+                int i = read[u];
+                if (i >= getOutDegree(u)) {
+                    throw new IndexOutOfBoundsException("Arc " + i + " of vertex " + u);
+                }
+                // Blocks of a vertex are contiguous, so reading simply continues past a block end
+                int p = i == 0 ? blockOffsets[firstBlock[u]] : position[u];
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[p++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                int target = i % BLOCK == 0 ? u + unZigZag(value) : previous[u] + value;
+                position[u] = p;
+                previous[u] = target;
+                read[u] = i + 1;
+                return target;
+            }
+        };
+    }
+
+    private int weightAt(int arc) {
+        if (weights8 != null) {
+            return weights8[arc];
+        }
+        return weights16 != null ? weights16[arc] : weights32[arc];
+    }
+
+    /** Approximate heap footprint of the encoded arrays, in bytes. */
+    public long getEncodedBytes() {
+        long weightBytes = weights8 != null ? weights8.length
+                : weights16 != null ? 2L * weights16.length : 4L * weights32.length;
+        return data.length + weightBytes
+                + 4L * (arcOffsets.length + firstBlock.length + blockOffsets.length);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CompressedGraph (vertices: %d, arcs: %d, directed: %s, weight model: %s, bytes: %d)",
+                n, getEdgeCount(), directed, weightModel, getEncodedBytes());
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] out, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+}
@@ -0,0 +1,88 @@
+package graph.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Accepts arcs from any number of producer threads without locking: each thread appends
+ * to its own primitive {@link EdgeBuffer}, registered once on first use. {@link #build()}
+ * merges the buffers into a {@link CSRGraph} with a parallel counting sort.
+ *
+ * <p>Producers must have finished (e.g. their executor terminated or threads joined)
+ * before {@code build()} is called. Within a vertex, arcs from one thread keep their
+ * insertion order; arcs from different threads are grouped by thread.
+ */
+public final class ConcurrentGraphBuilder implements EdgeSink {
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final ConcurrentLinkedQueue<EdgeBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<EdgeBuffer> local = ThreadLocal.withInitial(this::register);
+    private final AtomicBoolean built = new AtomicBoolean();
+
+    public ConcurrentGraphBuilder(int n, boolean directed) {
+        this(n, directed, "edge");
+    }
+
+    public ConcurrentGraphBuilder(int n, boolean directed, String weightModel) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Vertex count must be non-negative: " + n);
+        }
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+    }
+
+    private EdgeBuffer register() {
+        EdgeBuffer buffer = new EdgeBuffer();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    @Override
+    public void addEdge(int u, int v, int weight) {
+        if (u < 0 || u >= n || v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
+        }
+        if (built.get()) {
+            throw new IllegalStateException("Graph has already been built");
+        }
+
+        EdgeBuffer buffer = local.get();
+        buffer.addEdge(u, v, weight);
+
+        // If undirected, add reverse edge
+        if (!directed) {
+            buffer.addEdge(v, u, weight);
+        }
+    }
+
+    public CSRGraph build() {
+        return build(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Merges the buffers and then empties them: the producer threads' thread-local slots
+     * still reference them, so their arrays must not outlive the build. A builder can
+     * only be built once.
+     */
+    public CSRGraph build(ForkJoinPool pool) {
+        // Claimed atomically so concurrent builds cannot both merge and release the buffers
+        if (!built.compareAndSet(false, true)) {
+            throw new IllegalStateException("Graph has already been built");
+        }
+        List<EdgeBuffer> parts = new ArrayList<>(buffers);
+        buffers.clear();
+        try {
+            return EdgeBuffer.mergeToCSR(parts, n, directed, weightModel, pool);
+        } finally {
+            for (EdgeBuffer part : parts) {
+                part.release();
+            }
+            local.remove();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package graph.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Growable primitive (from, to, weight) triples, 12 bytes per arc with no per-arc objects.
+ */
+final class EdgeBuffer implements EdgeSink {
+    private int[] from;
+    private int[] to;
+    private int[] weight;
+    private int size;
+
+    EdgeBuffer() {
+        this(16);
+    }
+
+    EdgeBuffer(int expectedEdges) {
+        int capacity = Math.max(16, expectedEdges);
+        this.from = new int[capacity];
+        this.to = new int[capacity];
+        this.weight = new int[capacity];
+    }
+
+    @Override
+    public void addEdge(int u, int v, int w) {
+        if (size == from.length) {
+            int capacity = Math.max(16, from.length + (from.length >> 1));
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+            weight = Arrays.copyOf(weight, capacity);
+        }
+        from[size] = u;
+        to[size] = v;
+        weight[size] = w;
+        size++;
+    }
+
+    /** Drops the buffered arcs and their arrays, e.g. once they have been merged. */
+    void release() {
+        from = new int[0];
+        to = new int[0];
+        weight = new int[0];
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int from(int i) {
+        return from[i];
+    }
+
+    int to(int i) {
+        return to[i];
+    }
+
+    int weight(int i) {
+        return weight[i];
+    }
+
+    void forEach(EdgeSink sink) {
+        for (int i = 0; i < size; i++) {
+            sink.addEdge(from[i], to[i], weight[i]);
+        }
+    }
+
+    /** Counting-sorts the buffered arcs by source into CSR arrays, keeping insertion order per source. */
+    CSRGraph toCSR(int n, boolean directed, String weightModel) {
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[from[i] + 1]++;
+        }
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, n);
+        int[] targets = new int[size];
+        int[] weights = new int[size];
+        for (int i = 0; i < size; i++) {
+            int slot = cursor[from[i]]++;
+            targets[slot] = to[i];
+            weights[slot] = weight[i];
+        }
+
+        return new CSRGraph(n, directed, weightModel, offsets, targets, weights);
+    }
+
+    /**
+     * Merges buffers filled concurrently into one CSR graph on {@code pool}. Degrees are
+     * counted and arcs scattered in parallel; each vertex's arcs are then put back in
+     * (buffer, position) order, so the result does not depend on thread scheduling.
+     */
+    static CSRGraph mergeToCSR(List<EdgeBuffer> parts, int n, boolean directed, String weightModel,
+                               ForkJoinPool pool) {
+        int k = parts.size();
+        int[] base = new int[k + 1];
+        for (int p = 0; p < k; p++) {
+            long next = (long) base[p] + parts.get(p).size;
+            if (next > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many arcs for an int-indexed graph: " + next);
+            }
+            base[p + 1] = (int) next;
+        }
+        int m = base[k];
+
+        AtomicIntegerArray degree = new AtomicIntegerArray(n);
+        pool.submit(() -> IntStream.range(0, k).parallel().forEach(p -> {
+            EdgeBuffer part = parts.get(p);
+            for (int i = 0; i < part.size; i++) {
+                degree.incrementAndGet(part.from[i]);
+            }
+        })).join();
+
+        int[] offsets = new int[n + 1];
+        AtomicIntegerArray cursor = new AtomicIntegerArray(n);
+        for (int u = 0; u < n; u++) {
+            cursor.set(u, offsets[u]);
+            offsets[u + 1] = offsets[u] + degree.get(u);
+        }
+
+        int[] targets = new int[m];
+        int[] weights = new int[m];
+        int[] rank = new int[m];
+        pool.submit(() -> IntStream.range(0, k).parallel().forEach(p -> {
+            EdgeBuffer part = parts.get(p);
+            for (int i = 0; i < part.size; i++) {
+                int slot = cursor.getAndIncrement(part.from[i]);
+                targets[slot] = part.to[i];
+                weights[slot] = part.weight[i];
+                rank[slot] = base[p] + i;
+            }
+        })).join();
+
+        pool.submit(() -> IntStream.range(0, n).parallel()
+                .forEach(u -> restoreOrder(offsets[u], offsets[u + 1], rank, targets, weights))).join();
+
+        return new CSRGraph(n, directed, weightModel, offsets, targets, weights);
+    }
+
+    private static void restoreOrder(int start, int end, int[] rank, int[] targets, int[] weights) {
+        boolean sorted = true;
+        for (int e = start + 1; e < end && sorted; e++) {
+            sorted = rank[e - 1] < rank[e];
+        }
+        if (sorted) {
+            return;
+        }
+
+        long[] keys = new long[end - start];
+        for (int e = start; e < end; e++) {
+            keys[e - start] = ((long) rank[e] << 32) | (e - start);
+        }
+        Arrays.sort(keys);
+
+        int[] t = Arrays.copyOfRange(targets, start, end);
+        int[] w = Arrays.copyOfRange(weights, start, end);
+        for (int i = 0; i < keys.length; i++) {
+            int from = (int) keys[i];
+            targets[start + i] = t[from];
+            weights[start + i] = w[from];
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package graph.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Loader for whitespace-separated {@code u v [w]} edge lists (SNAP style). Lines starting
+ * with {@code #} or {@code %} are comments and a missing weight defaults to 1. Integers
+ * are parsed straight from the memory-mapped bytes; line-aligned ranges are parsed in
+ * parallel and merged like {@link ParallelJsonLoader} does, and the vertex count is the
+ * largest id seen plus one.
+ */
+final class EdgeListLoader {
+    private static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    private static final long MIN_CHUNK_BYTES = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int BYTES_PER_LINE_ESTIMATE = 12;
+
+    private EdgeListLoader() {
+    }
+
+    static CSRGraph load(Path path, boolean directed, String weightModel, ForkJoinPool pool) throws IOException {
+        try (Arena arena = Arena.ofShared();
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            long length = file.byteSize();
+
+            long chunkBytes = Math.max(MIN_CHUNK_BYTES,
+                    length / ((long) pool.getParallelism() * CHUNKS_PER_THREAD) + 1);
+            int chunks = (int) ((length + chunkBytes - 1) / chunkBytes);
+
+            List<EdgeBuffer> parts;
+            try {
+                parts = pool.submit(() -> IntStream.range(0, chunks).parallel()
+                        .mapToObj(c -> parseRange(file, c * chunkBytes,
+                                Math.min(length, (c + 1) * chunkBytes), length, directed))
+                        .collect(Collectors.toList())).join();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw e;
+            }
+
+            int maxId = -1;
+            for (EdgeBuffer part : parts) {
+                for (int i = 0; i < part.size(); i++) {
+                    maxId = Math.max(maxId, Math.max(part.from(i), part.to(i)));
+                }
+            }
+
+            return EdgeBuffer.mergeToCSR(parts, maxId + 1, directed, weightModel, pool);
+        }
+    }
+
+    /** Parses every line that starts inside {@code [lo, hi)}. */
+    private static EdgeBuffer parseRange(MemorySegment file, long lo, long hi, long end, boolean directed) {
+        EdgeBuffer buffer = new EdgeBuffer((int) ((hi - lo) / BYTES_PER_LINE_ESTIMATE));
+        long p = lo;
+        if (p > 0 && file.get(BYTE, p - 1) != '\n') {
+            p = nextLine(file, p, end);
+        }
+
+        long[] cursor = new long[1];
+        while (p < hi) {
+            long q = skipBlanks(file, p, end);
+            if (q >= end || isLineEnd(file.get(BYTE, q)) || file.get(BYTE, q) == '#' || file.get(BYTE, q) == '%') {
+                p = nextLine(file, q, end);
+                continue;
+            }
+
+            cursor[0] = q;
+            int u = parseInt(file, cursor, end);
+            cursor[0] = skipBlanks(file, cursor[0], end);
+            int v = parseInt(file, cursor, end);
+            cursor[0] = skipBlanks(file, cursor[0], end);
+            int w = 1;
+            if (cursor[0] < end && !isLineEnd(file.get(BYTE, cursor[0]))) {
+                w = parseInt(file, cursor, end);
+            }
+            if (u < 0 || v < 0) {
+                throw malformed("Negative vertex id", q);
+            }
+
+            buffer.addEdge(u, v, w);
+            if (!directed) {
+                buffer.addEdge(v, u, w);
+            }
+            p = nextLine(file, cursor[0], end);
+        }
+        return buffer;
+    }
+
+    private static int parseInt(MemorySegment file, long[] cursor, long end) {
+        long p = cursor[0];
+        boolean negative = p < end && file.get(BYTE, p) == '-';
+        if (negative) {
+            p++;
+        }
+        long start = p;
+        long value = 0;
+        while (p < end) {
+            byte d = file.get(BYTE, p);
+            if (d < '0' || d > '9') {
+                break;
+            }
+            value = value * 10 + (d - '0');
+            if (value > (negative ? Integer.MAX_VALUE + 1L : Integer.MAX_VALUE)) {
+                throw malformed("Integer overflow", p);
+            }
+            p++;
+        }
+        if (p == start) {
+            throw malformed("Expected integer", p);
+        }
+        cursor[0] = p;
+        return (int) (negative ? -value : value);
+    }
+
+    private static long skipBlanks(MemorySegment file, long p, long end) {
+        while (p < end) {
+            byte b = file.get(BYTE, p);
+            if (b != ' ' && b != '\t' && b != ',') {
+                break;
+            }
+            p++;
+        }
+        return p;
+    }
+
+    private static long nextLine(MemorySegment file, long p, long end) {
+        while (p < end && file.get(BYTE, p) != '\n') {
+            p++;
+        }
+        return p + 1;
+    }
+
+    private static boolean isLineEnd(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    private static UncheckedIOException malformed(String message, long position) {
+        return new UncheckedIOException(new IOException(message + " at byte " + position));
+    }
+}
@@ -0,0 +1,10 @@
+package graph.core;
+
+/**
+ * Receives arcs one at a time, e.g. from a streaming loader or generator,
+ * so producers never need to materialize an intermediate edge list.
+ */
+@FunctionalInterface
+public interface EdgeSink {
+    void addEdge(int u, int v, int weight);
+}
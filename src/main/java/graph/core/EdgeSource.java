@@ -0,0 +1,17 @@
+package graph.core;
+
+/**
+ * A replayable stream of edges, e.g. a seeded generator. Every call to {@link #emit}
+ * must produce the same edges in the same order, which lets writers make more than
+ * one pass without materializing the graph.
+ */
+public interface EdgeSource {
+    int getVertexCount();
+
+    boolean isDirected();
+
+    String getWeightModel();
+
+    /** Feeds every edge to {@code sink}; undirected edges are emitted once. */
+    void emit(EdgeSink sink);
+}
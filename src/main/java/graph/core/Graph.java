@@ -2,11 +2,18 @@ package graph.core;
 
 import java.util.*;
 
-public class Graph {
+public class Graph implements GraphView, EdgeSink {
+    private static final int[] EMPTY = new int[0];
+
     private int n;
-    private List<List<Edge>> adjacencyList;
+    // Per-vertex primitive adjacency: the first degree[u] slots of targets[u]/weights[u] are live
+    private int[][] targets;
+    private int[][] weights;
+    private int[] degree;
     private boolean directed;
     private String weightModel;
+    private int edgeCount;
+    private CSRGraph transpose; // lazily built in-edge index, dropped on mutation
 
     // Constructors
     public Graph(int n, boolean directed) {
@@ -17,54 +24,136 @@ public class Graph {
         this.n = n;
         this.directed = directed;
         this.weightModel = weightModel;
-        this.adjacencyList = new ArrayList<>();
+        this.targets = new int[n][];
+        this.weights = new int[n][];
+        this.degree = new int[n];
 
-        for (int i = 0; i < n; i++) {
-            adjacencyList.add(new ArrayList<>());
-        }
+        Arrays.fill(targets, EMPTY);
+        Arrays.fill(weights, EMPTY);
     }
 
     // Methods
+    @Override
     public void addEdge(int u, int v, int weight) {
         if (u < 0 || u >= n || v < 0 || v >= n) {
             throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
         }
 
-        adjacencyList.get(u).add(new Edge(u, v, weight));
+        append(u, v, weight);
 
         // If undirected, add reverse edge
         if (!directed) {
-            adjacencyList.get(v).add(new Edge(v, u, weight));
+            append(v, u, weight);
+        }
+    }
+
+    private void append(int u, int v, int weight) {
+        int d = degree[u];
+        if (d == targets[u].length) {
+            int capacity = Math.max(4, d + (d >> 1));
+            targets[u] = Arrays.copyOf(targets[u], capacity);
+            weights[u] = Arrays.copyOf(weights[u], capacity);
         }
+        targets[u][d] = v;
+        weights[u][d] = weight;
+        degree[u] = d + 1;
+        edgeCount++;
+        transpose = null;
     }
 
+    /**
+     * Materializes the outgoing arcs of {@code u} as {@link Edge} objects.
+     * Hot loops should use {@link #getNeighbor}/{@link #getNeighborWeight} instead.
+     */
     public List<Edge> getNeighbors(int u) {
         if (u < 0 || u >= n) {
             throw new IllegalArgumentException("Vertex index out of bounds: " + u);
         }
-        return Collections.unmodifiableList(adjacencyList.get(u));
+        List<Edge> edges = new ArrayList<>(degree[u]);
+        for (int i = 0; i < degree[u]; i++) {
+            edges.add(new Edge(u, targets[u][i], weights[u][i]));
+        }
+        return Collections.unmodifiableList(edges);
+    }
+
+    @Override
+    public int getOutDegree(int u) {
+        return degree[u];
+    }
+
+    @Override
+    public int getNeighbor(int u, int index) {
+        return targets[u][index];
+    }
+
+    @Override
+    public int getNeighborWeight(int u, int index) {
+        return weights[u][index];
+    }
+
+    @Override
+    public void forEachNeighbor(int u, NeighborConsumer action) {
+        int[] t = targets[u];
+        int[] w = weights[u];
+        for (int i = 0, d = degree[u]; i < d; i++) {
+            action.accept(t[i], w[i]);
+        }
     }
 
+    @Override
     public int getVertexCount() {
         return n;
     }
 
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
     public boolean isDirected() {
         return directed;
     }
 
+    @Override
     public String getWeightModel() {
         return weightModel;
     }
 
+    // Streaming loaders may only learn the weight model after the edges
+    void setWeightModel(String weightModel) {
+        this.weightModel = weightModel;
+    }
+
+    public CSRGraph toCSR() {
+        return CSRGraph.fromGraph(this);
+    }
+
     public List<Edge> getAllEdges() {
-        List<Edge> allEdges = new ArrayList<>();
-        for (List<Edge> edges : adjacencyList) {
-            allEdges.addAll(edges);
+        List<Edge> allEdges = new ArrayList<>(edgeCount);
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < degree[u]; i++) {
+                allEdges.add(new Edge(u, targets[u][i], weights[u][i]));
+            }
         }
         return allEdges;
     }
 
+    /**
+     * In-edge index built once and reused until the next {@link #addEdge}.
+     * Prefer this over {@link #getReverse()}, which copies the whole graph per call.
+     */
+    @Override
+    public GraphView getTranspose() {
+        if (!directed) {
+            return this;
+        }
+        if (transpose == null) {
+            transpose = CSRGraph.transposeOf(this);
+        }
+        return transpose;
+    }
+
     public Graph getReverse() {
         if (!directed) {
             return this; // Undirected graph is its own reverse
@@ -72,8 +161,8 @@ public class Graph {
 
         Graph reverse = new Graph(n, directed, weightModel);
         for (int u = 0; u < n; u++) {
-            for (Edge edge : adjacencyList.get(u)) {
-                reverse.addEdge(edge.getTo(), edge.getFrom(), edge.getWeight());
+            for (int i = 0; i < degree[u]; i++) {
+                reverse.append(targets[u][i], u, weights[u][i]);
             }
         }
         return reverse;
@@ -89,11 +178,11 @@ public class Graph {
 
         for (int u = 0; u < n; u++) {
             sb.append(u).append(": ");
-            for (Edge edge : adjacencyList.get(u)) {
-                sb.append(edge).append(" ");
+            for (int i = 0; i < degree[u]; i++) {
+                sb.append(String.format("%d->%d(%d)", u, targets[u][i], weights[u][i])).append(" ");
             }
             sb.append("\n");
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
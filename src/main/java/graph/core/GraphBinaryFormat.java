@@ -0,0 +1,312 @@
+package graph.core;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact little-endian CSR file layout, designed to be memory-mapped and used in place:
+ * <pre>
+ *   int magic ("SCG1"), int version, int n, int arcCount,
+ *   int flags (bit 0 = directed), int source (-1 if absent),
+ *   int weightModelLength, UTF-8 weight model bytes padded to a 4-byte boundary,
+ *   int offsets[n + 1], int targets[arcCount], int weights[arcCount]
+ * </pre>
+ */
+public final class GraphBinaryFormat {
+    public static final int MAGIC = 0x31474353; // "SCG1" read as little-endian bytes
+    public static final int VERSION = 1;
+
+    static final int FLAG_DIRECTED = 1;
+    static final int FIXED_HEADER_INTS = 7;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private GraphBinaryFormat() {
+    }
+
+    public static void write(GraphView g, Integer source, Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), WRITE_BUFFER_BYTES)) {
+            write(g, source, out);
+        }
+    }
+
+    public static void write(GraphView g, Integer source, OutputStream out) throws IOException {
+        int n = g.getVertexCount();
+        IntWriter writer = new IntWriter(out);
+
+        byte[] weightModel = g.getWeightModel().getBytes(StandardCharsets.UTF_8);
+        writer.put(MAGIC);
+        writer.put(VERSION);
+        writer.put(n);
+        writer.put(g.getEdgeCount());
+        writer.put(g.isDirected() ? FLAG_DIRECTED : 0);
+        writer.put(source == null ? -1 : source);
+        writer.put(weightModel.length);
+        writer.putBytes(weightModel);
+
+        int offset = 0;
+        writer.put(0);
+        for (int u = 0; u < n; u++) {
+            offset += g.getOutDegree(u);
+            writer.put(offset);
+        }
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                writer.put(g.getNeighbor(u, i));
+            }
+        }
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                writer.put(g.getNeighborWeight(u, i));
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes a replayable edge stream without materializing the graph: one pass counts
+     * degrees, a second scatters arcs into a read-write mapping of the file. Arcs of a
+     * vertex keep their emission order, exactly as if the edges had been added to a
+     * {@link Graph}. Heap use is one int per vertex.
+     */
+    public static void write(EdgeSource edges, Integer source, Path path) throws IOException {
+        int n = edges.getVertexCount();
+        boolean directed = edges.isDirected();
+
+        // Pass 1: out-degrees, later turned into per-vertex write cursors
+        int[] cursor = new int[n];
+        long[] arcCount = new long[1];
+        edges.emit((u, v, w) -> {
+            if (u < 0 || u >= n || v < 0 || v >= n) {
+                throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
+            }
+            cursor[u]++;
+            arcCount[0]++;
+            if (!directed) {
+                cursor[v]++;
+                arcCount[0]++;
+            }
+        });
+        if (arcCount[0] > Integer.MAX_VALUE) {
+            throw new IOException("Too many arcs for the binary format: " + arcCount[0]);
+        }
+        int arcs = (int) arcCount[0];
+
+        byte[] weightModel = edges.getWeightModel().getBytes(StandardCharsets.UTF_8);
+        long offsetsAt = FIXED_HEADER_INTS * Integer.BYTES + align(weightModel.length);
+        long targetsAt = offsetsAt + (n + 1L) * Integer.BYTES;
+        long weightsAt = targetsAt + (long) arcs * Integer.BYTES;
+        long size = weightsAt + (long) arcs * Integer.BYTES;
+
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            file.setAtIndex(OffHeapGraph.INT, 0, MAGIC);
+            file.setAtIndex(OffHeapGraph.INT, 1, VERSION);
+            file.setAtIndex(OffHeapGraph.INT, 2, n);
+            file.setAtIndex(OffHeapGraph.INT, 3, arcs);
+            file.setAtIndex(OffHeapGraph.INT, 4, directed ? FLAG_DIRECTED : 0);
+            file.setAtIndex(OffHeapGraph.INT, 5, source == null ? -1 : source);
+            file.setAtIndex(OffHeapGraph.INT, 6, weightModel.length);
+            MemorySegment.copy(weightModel, 0, file, ValueLayout.JAVA_BYTE,
+                    FIXED_HEADER_INTS * Integer.BYTES, weightModel.length);
+
+            MemorySegment offsets = file.asSlice(offsetsAt, (n + 1L) * Integer.BYTES);
+            int offset = 0;
+            for (int u = 0; u < n; u++) {
+                offsets.setAtIndex(OffHeapGraph.INT, u, offset);
+                int degree = cursor[u];
+                cursor[u] = offset;
+                offset += degree;
+            }
+            offsets.setAtIndex(OffHeapGraph.INT, n, offset);
+
+            // Pass 2: replay and scatter each arc to its vertex's next slot
+            MemorySegment targets = file.asSlice(targetsAt, (long) arcs * Integer.BYTES);
+            MemorySegment weights = file.asSlice(weightsAt, (long) arcs * Integer.BYTES);
+            // A replay with extra arcs would overrun a vertex's slots, so each write is bounded
+            try {
+                edges.emit((u, v, w) -> {
+                    if (u < 0 || u >= n || v < 0 || v >= n) {
+                        throw new UncheckedIOException(replayMismatch(path));
+                    }
+                    int i = cursor[u]++;
+                    if (i >= offsets.getAtIndex(OffHeapGraph.INT, u + 1)) {
+                        throw new UncheckedIOException(replayMismatch(path));
+                    }
+                    targets.setAtIndex(OffHeapGraph.INT, i, v);
+                    weights.setAtIndex(OffHeapGraph.INT, i, w);
+                    if (!directed) {
+                        int j = cursor[v]++;
+                        if (j >= offsets.getAtIndex(OffHeapGraph.INT, v + 1)) {
+                            throw new UncheckedIOException(replayMismatch(path));
+                        }
+                        targets.setAtIndex(OffHeapGraph.INT, j, u);
+                        weights.setAtIndex(OffHeapGraph.INT, j, w);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            for (int u = 0; u < n; u++) {
+                if (cursor[u] != offsets.getAtIndex(OffHeapGraph.INT, u + 1)) {
+                    throw replayMismatch(path);
+                }
+            }
+            file.force();
+        }
+    }
+
+    /**
+     * Maps {@code path} read-only and returns a graph whose neighbor accessors read
+     * straight from the mapping. Closing the graph unmaps the file. Only the header and
+     * section sizes are checked, in O(1); see {@link #map(Path, int[], boolean)}.
+     */
+    public static OffHeapGraph map(Path path, int[] sourceVertex) throws IOException {
+        return map(path, sourceVertex, false);
+    }
+
+    /**
+     * Like {@link #map(Path, int[])}, and with {@code verify} also scans every offset and
+     * target once, touching every page, for files from untrusted sources.
+     */
+    public static OffHeapGraph map(Path path, int[] sourceVertex, boolean verify) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return wrap(arena, file, sourceVertex, path.toString(), verify);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    static OffHeapGraph wrap(Arena arena, MemorySegment file, int[] sourceVertex, String name, boolean verify)
+            throws IOException {
+        if (file.byteSize() < FIXED_HEADER_INTS * Integer.BYTES
+                || file.getAtIndex(OffHeapGraph.INT, 0) != MAGIC) {
+            throw new IOException("Not a binary graph file: " + name);
+        }
+        int version = file.getAtIndex(OffHeapGraph.INT, 1);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary graph version " + version + ": " + name);
+        }
+
+        int n = file.getAtIndex(OffHeapGraph.INT, 2);
+        int arcs = file.getAtIndex(OffHeapGraph.INT, 3);
+        int flags = file.getAtIndex(OffHeapGraph.INT, 4);
+        int source = file.getAtIndex(OffHeapGraph.INT, 5);
+        int weightModelLength = file.getAtIndex(OffHeapGraph.INT, 6);
+
+        long position = FIXED_HEADER_INTS * Integer.BYTES;
+        if (weightModelLength < 0 || position + weightModelLength > file.byteSize()) {
+            throw new IOException("Corrupt binary graph file (weight model length " + weightModelLength + "): " + name);
+        }
+        String weightModel = new String(
+                file.asSlice(position, weightModelLength).toArray(ValueLayout.JAVA_BYTE),
+                StandardCharsets.UTF_8);
+        position += align(weightModelLength);
+
+        long offsetsBytes = (n + 1L) * Integer.BYTES;
+        long arcBytes = (long) arcs * Integer.BYTES;
+        if (n < 0 || arcs < 0 || position + offsetsBytes + 2 * arcBytes != file.byteSize()) {
+            throw new IOException("Corrupt binary graph file (size mismatch): " + name);
+        }
+
+        MemorySegment offsets = file.asSlice(position, offsetsBytes);
+        MemorySegment targets = file.asSlice(position + offsetsBytes, arcBytes);
+        MemorySegment weights = file.asSlice(position + offsetsBytes + arcBytes, arcBytes);
+        if (verify) {
+            validate(offsets, targets, n, arcs, name);
+        }
+
+        if (source >= 0 && sourceVertex != null && sourceVertex.length > 0) {
+            sourceVertex[0] = source;
+        }
+
+        return new OffHeapGraph(arena, n, (flags & FLAG_DIRECTED) != 0, weightModel, offsets, targets, weights);
+    }
+
+    /**
+     * Full CSR structure check, O(n + m): offsets start at zero, never decrease and end at
+     * the arc count, and every target is a vertex.
+     */
+    private static void validate(MemorySegment offsets, MemorySegment targets, int n, int arcs, String name)
+            throws IOException {
+        int previous = offsets.getAtIndex(OffHeapGraph.INT, 0);
+        if (previous != 0) {
+            throw new IOException("Corrupt binary graph file (offsets must start at 0): " + name);
+        }
+        for (int u = 1; u <= n; u++) {
+            int offset = offsets.getAtIndex(OffHeapGraph.INT, u);
+            if (offset < previous || offset > arcs) {
+                throw new IOException("Corrupt binary graph file (offset " + offset + " at vertex " + u + "): " + name);
+            }
+            previous = offset;
+        }
+        if (previous != arcs) {
+            throw new IOException("Corrupt binary graph file (offsets end at " + previous + ", expected " + arcs + "): " + name);
+        }
+        for (long i = 0; i < arcs; i++) {
+            int v = targets.getAtIndex(OffHeapGraph.INT, i);
+            if (v < 0 || v >= n) {
+                throw new IOException("Corrupt binary graph file (target " + v + " out of range): " + name);
+            }
+        }
+    }
+
+    private static IOException replayMismatch(Path path) {
+        return new IOException("Edge source did not replay the same edges: " + path);
+    }
+
+    static int align(int bytes) {
+        return (bytes + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+
+    /** Buffers little-endian ints in front of an {@link OutputStream}. */
+    static final class IntWriter {
+        private final OutputStream out;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        IntWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        void put(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                drain();
+            }
+            buffer.putInt(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            drain();
+            out.write(bytes);
+            out.write(new byte[align(bytes.length) - bytes.length]);
+        }
+
+        void flush() throws IOException {
+            drain();
+            out.flush();
+        }
+
+        private void drain() throws IOException {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+    }
+}
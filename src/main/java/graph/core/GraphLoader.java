@@ -1,64 +1,178 @@
 package graph.core;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import java.io.FileReader;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
 
 public class GraphLoader {
-    private static final Gson gson = new Gson();
 
     public static Graph loadFromJSON(String filepath) throws IOException {
-        String jsonContent = new String(Files.readAllBytes(Paths.get(filepath)));
-        JsonObject jsonObject = gson.fromJson(jsonContent, JsonObject.class);
+        return loadFromJSON(filepath, null);
+    }
+
+    public static Graph loadFromJSON(String filepath, int[] sourceVertex) throws IOException {
+        try (Reader reader = Files.newBufferedReader(Paths.get(filepath), StandardCharsets.UTF_8)) {
+            return loadFromJSON(reader, sourceVertex);
+        }
+    }
 
-        int vertices = jsonObject.get("n").getAsInt();
-        boolean directed = jsonObject.get("directed").getAsBoolean();
-        String weightModel = jsonObject.get("weight_model").getAsString();
+    /**
+     * Streams a graph document token by token; no JSON tree or full-text copy is built.
+     * Edges go straight into the graph when {@code n} and {@code directed} precede
+     * {@code edges}, otherwise they are held in a primitive buffer until they are known.
+     */
+    public static Graph loadFromJSON(Reader source, int[] sourceVertex) throws IOException {
+        JsonReader in = new JsonReader(source);
 
-        Graph graph = new Graph(vertices, directed, weightModel);
+        int vertices = -1;
+        Boolean directed = null;
+        String weightModel = null;
+        Graph graph = null;
+        EdgeBuffer pending = null;
 
-        JsonArray edges = jsonObject.getAsJsonArray("edges");
-        for (JsonElement edgeElement : edges) {
-            JsonObject edge = edgeElement.getAsJsonObject();
-            int from = edge.get("u").getAsInt();
-            int to = edge.get("v").getAsInt();
-            int weight = edge.get("w").getAsInt();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "n":
+                    vertices = in.nextInt();
+                    break;
+                case "directed":
+                    directed = in.nextBoolean();
+                    break;
+                case "weight_model":
+                    weightModel = in.nextString();
+                    break;
+                case "source":
+                    int s = in.nextInt();
+                    if (sourceVertex != null && sourceVertex.length > 0) {
+                        sourceVertex[0] = s;
+                    }
+                    break;
+                case "edges":
+                    if (vertices >= 0 && directed != null) {
+                        graph = new Graph(vertices, directed, weightModel);
+                        readEdges(in, graph);
+                    } else {
+                        pending = new EdgeBuffer();
+                        readEdges(in, pending);
+                    }
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
 
-            graph.addEdge(from, to, weight);
+        if (vertices < 0 || directed == null || weightModel == null) {
+            throw new IOException("Graph JSON must define \"n\", \"directed\" and \"weight_model\"");
         }
 
+        if (graph == null) {
+            graph = new Graph(vertices, directed, weightModel);
+            if (pending != null) {
+                pending.forEach(graph);
+            }
+        }
+        graph.setWeightModel(weightModel);
+
         return graph;
     }
 
-    public static Graph loadFromJSON(String filepath, int[] sourceVertex) throws IOException {
-        String jsonContent = new String(Files.readAllBytes(Paths.get(filepath)));
-        JsonObject jsonObject = gson.fromJson(jsonContent, JsonObject.class);
+    static void readEdges(JsonReader in, EdgeSink sink) throws IOException {
+        in.beginArray();
+        while (in.hasNext()) {
+            int from = -1;
+            int to = -1;
+            int weight = 0;
+            boolean hasWeight = false;
 
-        int vertices = jsonObject.get("n").getAsInt();
-        boolean directed = jsonObject.get("directed").getAsBoolean();
-        String weightModel = jsonObject.get("weight_model").getAsString();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "u":
+                        from = in.nextInt();
+                        break;
+                    case "v":
+                        to = in.nextInt();
+                        break;
+                    case "w":
+                        weight = in.nextInt();
+                        hasWeight = true;
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
 
-        if (jsonObject.has("source") && sourceVertex != null && sourceVertex.length > 0) {
-            sourceVertex[0] = jsonObject.get("source").getAsInt();
+            if (from < 0 || to < 0 || !hasWeight) {
+                throw new IOException("Edge must define \"u\", \"v\" and \"w\" at " + in.getPath());
+            }
+            sink.addEdge(from, to, weight);
         }
+        in.endArray();
+    }
 
-        Graph graph = new Graph(vertices, directed, weightModel);
+    /**
+     * Like {@link #loadFromJSON(String, int[])}, but keeps a binary snapshot of the parsed
+     * graph next to the file ({@code <file>.snapshot}). While the source's size,
+     * modification time and content hash are unchanged, later calls read the snapshot
+     * instead of parsing JSON.
+     */
+    public static CSRGraph loadFromJSONCached(String filepath, int[] sourceVertex) throws IOException {
+        return GraphSnapshotCache.load(Paths.get(filepath), sourceVertex,
+                (path, source) -> loadFromJSON(path.toString(), source).toCSR());
+    }
 
-        JsonArray edges = jsonObject.getAsJsonArray("edges");
-        for (JsonElement edgeElement : edges) {
-            JsonObject edge = edgeElement.getAsJsonObject();
-            int from = edge.get("u").getAsInt();
-            int to = edge.get("v").getAsInt();
-            int weight = edge.get("w").getAsInt();
+    /**
+     * Loads a large graph JSON by parsing byte ranges of its {@code edges} array
+     * concurrently on the common fork-join pool. Produces the same arcs, in the same
+     * per-vertex order, as {@link #loadFromJSON(String, int[])}.
+     */
+    public static CSRGraph loadFromJSONParallel(String filepath, int[] sourceVertex) throws IOException {
+        return loadFromJSONParallel(filepath, sourceVertex, ForkJoinPool.commonPool());
+    }
 
-            graph.addEdge(from, to, weight);
-        }
+    public static CSRGraph loadFromJSONParallel(String filepath, int[] sourceVertex, ForkJoinPool pool)
+            throws IOException {
+        return ParallelJsonLoader.load(Paths.get(filepath), sourceVertex, pool);
+    }
 
-        return graph;
+    /**
+     * Loads a plain-text {@code u v [w]} edge list (SNAP style) by parsing the
+     * memory-mapped bytes directly; no per-line {@code String}s are created.
+     */
+    public static CSRGraph loadFromEdgeList(String filepath, boolean directed) throws IOException {
+        return loadFromEdgeList(filepath, directed, "edge");
+    }
+
+    public static CSRGraph loadFromEdgeList(String filepath, boolean directed, String weightModel)
+            throws IOException {
+        return EdgeListLoader.load(Paths.get(filepath), directed, weightModel, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Memory-maps a file written by {@link GraphBinaryFormat#write} (or
+     * {@code GraphGenerator.saveToBinary}). No parsing happens: neighbors are served
+     * directly from the mapping until the returned graph is closed.
+     */
+    public static OffHeapGraph loadFromBinary(String filepath, int[] sourceVertex) throws IOException {
+        return GraphBinaryFormat.map(Paths.get(filepath), sourceVertex);
+    }
+
+    /** As above; {@code verify} also checks every offset and target, for untrusted files. */
+    public static OffHeapGraph loadFromBinary(String filepath, int[] sourceVertex, boolean verify)
+            throws IOException {
+        return GraphBinaryFormat.map(Paths.get(filepath), sourceVertex, verify);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package graph.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshots of parsed graph files, stored next to the source as
+ * {@code <file>.snapshot}. A snapshot is a small fingerprint header (source size,
+ * modification time and CRC32C of the content) followed by a {@link GraphBinaryFormat}
+ * payload. It is used only while all three still match the source; otherwise the source
+ * is parsed again and the snapshot rewritten.
+ */
+final class GraphSnapshotCache {
+    static final String SUFFIX = ".snapshot";
+
+    private static final int MAGIC = 0x53474353; // "SCGS" read as little-endian bytes
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + 3 * Long.BYTES;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final long HASH_REGION_BYTES = 1L << 30;
+
+    private GraphSnapshotCache() {
+    }
+
+    interface Parser {
+        CSRGraph parse(Path source, int[] sourceVertex) throws IOException;
+    }
+
+    static Path snapshotPath(Path source) {
+        return source.resolveSibling(source.getFileName() + SUFFIX);
+    }
+
+    static CSRGraph load(Path source, int[] sourceVertex, Parser parser) throws IOException {
+        long size = Files.size(source);
+        long modified = Files.getLastModifiedTime(source).toMillis();
+        Path snapshot = snapshotPath(source);
+
+        if (Files.isRegularFile(snapshot)) {
+            CSRGraph cached = readIfFresh(source, snapshot, size, modified, sourceVertex);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        int[] parsedSource = {-1};
+        CSRGraph graph = parser.parse(source, parsedSource);
+        if (parsedSource[0] >= 0 && sourceVertex != null && sourceVertex.length > 0) {
+            sourceVertex[0] = parsedSource[0];
+        }
+
+        try {
+            write(snapshot, graph, parsedSource[0] >= 0 ? parsedSource[0] : null, size, modified, hash(source));
+        } catch (IOException e) {
+            // A read-only data directory only costs us the cache, not the load
+            Files.deleteIfExists(tempPath(snapshot));
+        }
+        return graph;
+    }
+
+    private static CSRGraph readIfFresh(Path source, Path snapshot, long size, long modified,
+                                        int[] sourceVertex) throws IOException {
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            if (file.get(OffHeapGraph.INT, 0) != MAGIC || file.get(OffHeapGraph.INT, 4) != VERSION
+                    || file.get(LONG, 8) != size || file.get(LONG, 16) != modified
+                    || file.get(LONG, 24) != hash(source)) {
+                return null;
+            }
+
+            // Pass a fresh holder so a corrupt payload cannot clobber the caller's source
+            int[] snapshotSource = {-1};
+            CSRGraph graph;
+            try {
+                // The payload is copied to the heap anyway, so the full check costs no extra I/O
+                graph = GraphBinaryFormat.wrap(arena, file.asSlice(HEADER_BYTES), snapshotSource,
+                        snapshot.toString(), true).toCSR();
+            } catch (IOException e) {
+                return null;
+            }
+            if (snapshotSource[0] >= 0 && sourceVertex != null && sourceVertex.length > 0) {
+                sourceVertex[0] = snapshotSource[0];
+            }
+            return graph;
+        }
+    }
+
+    private static void write(Path snapshot, CSRGraph graph, Integer source, long size, long modified, long hash)
+            throws IOException {
+        Path temp = tempPath(snapshot);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(Integer.reverseBytes(MAGIC));
+            header.writeInt(Integer.reverseBytes(VERSION));
+            header.writeLong(Long.reverseBytes(size));
+            header.writeLong(Long.reverseBytes(modified));
+            header.writeLong(Long.reverseBytes(hash));
+            GraphBinaryFormat.write(graph, source, out);
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path tempPath(Path snapshot) {
+        return snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+    }
+
+    /** CRC32C of the whole file, read through read-only mappings of at most 1 GiB each. */
+    static long hash(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += HASH_REGION_BYTES) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(HASH_REGION_BYTES, size - position));
+                crc.update(region);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,57 @@
+package graph.core;
+
+/**
+ * Read-only, index-based view of a directed adjacency structure.
+ * Algorithms iterate neighbors as {@code for (i < getOutDegree(u)) getNeighbor(u, i)}
+ * so they run unchanged on {@link Graph} and on {@link CSRGraph}.
+ */
+public interface GraphView {
+    int getVertexCount();
+
+    /** Number of stored arcs (an undirected edge counts twice). */
+    int getEdgeCount();
+
+    boolean isDirected();
+
+    String getWeightModel();
+
+    int getOutDegree(int u);
+
+    /** Target of the {@code index}-th outgoing arc of {@code u}. */
+    int getNeighbor(int u, int index);
+
+    /** Weight of the {@code index}-th outgoing arc of {@code u}. */
+    int getNeighborWeight(int u, int index);
+
+    /**
+     * In-edge view: arc {@code v -> u} here is arc {@code u -> v} in this graph, with the same weight.
+     * The default builds a fresh {@link CSRGraph}; implementations cache it.
+     */
+    default GraphView getTranspose() {
+        return CSRGraph.transposeOf(this);
+    }
+
+    /** Fresh cursor positioned before the first arc of every vertex; the default walks by index. */
+    default NeighborCursor neighborCursor() {
+        GraphView graph = this;
+        int[] read = new int[getVertexCount()];
+        return new NeighborCursor() {
+            @Override
+            public boolean hasNext(int u) {
+                return read[u] < graph.getOutDegree(u);
+            }
+
+            @Override
+            public int next(int u) {
+                return graph.getNeighbor(u, read[u]++);
+            }
+        };
+    }
+
+    default void forEachNeighbor(int u, NeighborConsumer action) {
+        int degree = getOutDegree(u);
+        for (int i = 0; i < degree; i++) {
+            action.accept(getNeighbor(u, i), getNeighborWeight(u, i));
+        }
+    }
+}
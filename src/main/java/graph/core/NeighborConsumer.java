@@ -0,0 +1,10 @@
+package graph.core;
+
+/**
+ * Primitive callback for {@link GraphView#forEachNeighbor}; receives each outgoing
+ * arc's target and weight without boxing or {@link Edge} allocation.
+ */
+@FunctionalInterface
+public interface NeighborConsumer {
+    void accept(int target, int weight);
+}
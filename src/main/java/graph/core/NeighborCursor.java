@@ -0,0 +1,14 @@
+package graph.core;
+
+/**
+ * Resumable per-vertex iteration over outgoing arc targets, for depth-first traversals
+ * that leave a vertex's list half-read while they descend. Each vertex's arcs are
+ * returned in {@link GraphView#getNeighbor} order. A cursor belongs to one traversal.
+ */
+public interface NeighborCursor {
+    /** True while {@code u} has arcs this cursor has not returned yet. */
+    boolean hasNext(int u);
+
+    /** Target of the next unread arc of {@code u}. */
+    int next(int u);
+}
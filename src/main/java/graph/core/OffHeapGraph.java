@@ -0,0 +1,324 @@
+package graph.core;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSR graph whose offsets/targets/weights live in native memory owned by a shared
+ * {@link Arena}. The GC never scans or copies the arc data; the memory is released
+ * deterministically by {@link #close()}, after which any access throws
+ * {@link IllegalStateException}.
+ */
+public final class OffHeapGraph implements GraphView, AutoCloseable {
+    // Fixed byte order so segments can be mapped straight from files written on any platform
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final int n;
+    private final int edgeCount;
+    private final boolean directed;
+    private final String weightModel;
+    private final MemorySegment offsets;
+    private final MemorySegment targets;
+    private final MemorySegment weights;
+    private final boolean ownsArena; // false for a transpose, which lives in its graph's arena
+    private volatile OffHeapGraph transpose;
+
+    OffHeapGraph(Arena arena, int n, boolean directed, String weightModel,
+                 MemorySegment offsets, MemorySegment targets, MemorySegment weights) {
+        this(arena, n, directed, weightModel, offsets, targets, weights, true);
+    }
+
+    private OffHeapGraph(Arena arena, int n, boolean directed, String weightModel,
+                         MemorySegment offsets, MemorySegment targets, MemorySegment weights, boolean ownsArena) {
+        this.arena = arena;
+        this.ownsArena = ownsArena;
+        this.n = n;
+        this.edgeCount = (int) (targets.byteSize() / Integer.BYTES);
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static OffHeapGraph copyOf(GraphView g) {
+        int n = g.getVertexCount();
+        int m = g.getEdgeCount();
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment offsets = allocateInts(arena, n + 1L);
+            MemorySegment targets = allocateInts(arena, m);
+            MemorySegment weights = allocateInts(arena, m);
+
+            int e = 0;
+            for (int u = 0; u < n; u++) {
+                offsets.setAtIndex(INT, u, e);
+                int degree = g.getOutDegree(u);
+                for (int i = 0; i < degree; i++, e++) {
+                    targets.setAtIndex(INT, e, g.getNeighbor(u, i));
+                    weights.setAtIndex(INT, e, g.getNeighborWeight(u, i));
+                }
+            }
+            offsets.setAtIndex(INT, n, e);
+
+            return new OffHeapGraph(arena, n, g.isDirected(), g.getWeightModel(), offsets, targets, weights);
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    static MemorySegment allocateInts(Arena arena, long count) {
+        return arena.allocate(count * Integer.BYTES, Integer.BYTES);
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    @Override
+    public int getOutDegree(int u) {
+        return offsets.getAtIndex(INT, u + 1) - offsets.getAtIndex(INT, u);
+    }
+
+    @Override
+    public int getNeighbor(int u, int index) {
+        return targets.getAtIndex(INT, (long) offsets.getAtIndex(INT, u) + index);
+    }
+
+    @Override
+    public int getNeighborWeight(int u, int index) {
+        return weights.getAtIndex(INT, (long) offsets.getAtIndex(INT, u) + index);
+    }
+
+    @Override
+    public void forEachNeighbor(int u, NeighborConsumer action) {
+        long end = offsets.getAtIndex(INT, u + 1);
+        for (long e = offsets.getAtIndex(INT, u); e < end; e++) {
+            action.accept(targets.getAtIndex(INT, e), weights.getAtIndex(INT, e));
+        }
+    }
+
+    /**
+     * Cached in-edge index, allocated in this graph's arena so it stays off the heap and is
+     * released by this graph's {@link #close()}; closing the transpose itself does nothing.
+     * See {@link GraphView#getTranspose()}.
+     */
+    @Override
+    public GraphView getTranspose() {
+        if (!directed) {
+            return this;
+        }
+        OffHeapGraph t = transpose;
+        if (t == null) {
+            // Locked so racing callers do not each allocate a native copy
+            synchronized (this) {
+                t = transpose;
+                if (t == null) {
+                    t = reverse();
+                    transpose = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    private OffHeapGraph reverse() {
+        MemorySegment inOffsets = allocateInts(arena, n + 1L);
+        MemorySegment sources = allocateInts(arena, edgeCount);
+        MemorySegment inWeights = allocateInts(arena, edgeCount);
+
+        // Arena allocations are zeroed, so the in-degrees can be counted in place
+        for (long e = 0; e < edgeCount; e++) {
+            int v = targets.getAtIndex(INT, e);
+            inOffsets.setAtIndex(INT, v + 1, inOffsets.getAtIndex(INT, v + 1) + 1);
+        }
+        for (int v = 0; v < n; v++) {
+            inOffsets.setAtIndex(INT, v + 1, inOffsets.getAtIndex(INT, v + 1) + inOffsets.getAtIndex(INT, v));
+        }
+
+        try (Arena scratch = Arena.ofConfined()) {
+            MemorySegment cursor = allocateInts(scratch, n);
+            MemorySegment.copy(inOffsets, 0, cursor, 0, (long) n * Integer.BYTES);
+            for (int u = 0; u < n; u++) {
+                long end = offsets.getAtIndex(INT, u + 1);
+                for (long e = offsets.getAtIndex(INT, u); e < end; e++) {
+                    int v = targets.getAtIndex(INT, e);
+                    int slot = cursor.getAtIndex(INT, v);
+                    cursor.setAtIndex(INT, v, slot + 1);
+                    sources.setAtIndex(INT, slot, u);
+                    inWeights.setAtIndex(INT, slot, weights.getAtIndex(INT, e));
+                }
+            }
+        }
+
+        OffHeapGraph reverse = new OffHeapGraph(arena, n, true, weightModel, inOffsets, sources, inWeights, false);
+        reverse.transpose = this;
+        return reverse;
+    }
+
+    /** Bulk-copies the arrays onto the heap, e.g. to keep the graph after closing the mapping. */
+    public CSRGraph toCSR() {
+        return new CSRGraph(n, directed, weightModel,
+                offsets.toArray(INT), targets.toArray(INT), weights.toArray(INT));
+    }
+
+    /** Bytes of native memory held by the arc and offset arrays. */
+    public long getNativeBytes() {
+        return offsets.byteSize() + targets.byteSize() + weights.byteSize();
+    }
+
+    public boolean isOpen() {
+        return arena.scope().isAlive();
+    }
+
+    @Override
+    public void close() {
+        if (ownsArena && arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OffHeapGraph (vertices: %d, arcs: %d, directed: %s, weight model: %s)",
+                n, edgeCount, directed, weightModel);
+    }
+
+    /**
+     * Builds an {@link OffHeapGraph} without any heap-resident copy of the arcs.
+     * Arcs are staged in fixed-size native chunks of a confined arena, which is freed
+     * once {@link #build()} has scattered them into CSR order.
+     */
+    public static final class Builder implements AutoCloseable {
+        private static final int CHUNK_EDGES = 1 << 20;
+        private static final long RECORD_BYTES = 3L * Integer.BYTES;
+
+        private final int n;
+        private final boolean directed;
+        private final String weightModel;
+        private final Arena staging = Arena.ofConfined();
+        private final List<MemorySegment> chunks = new ArrayList<>();
+        private MemorySegment current;
+        private int currentSize = CHUNK_EDGES;
+        private long size;
+
+        public Builder(int n, boolean directed, String weightModel) {
+            if (n < 0) {
+                throw new IllegalArgumentException("Vertex count must be non-negative: " + n);
+            }
+            this.n = n;
+            this.directed = directed;
+            this.weightModel = weightModel;
+        }
+
+        public Builder addEdge(int u, int v, int w) {
+            if (u < 0 || u >= n || v < 0 || v >= n) {
+                throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
+            }
+
+            append(u, v, w);
+
+            // If undirected, add reverse edge
+            if (!directed) {
+                append(v, u, w);
+            }
+            return this;
+        }
+
+        private void append(int u, int v, int w) {
+            if (currentSize == CHUNK_EDGES) {
+                current = staging.allocate(CHUNK_EDGES * RECORD_BYTES, Integer.BYTES);
+                chunks.add(current);
+                currentSize = 0;
+            }
+            long base = currentSize * 3L;
+            current.setAtIndex(INT, base, u);
+            current.setAtIndex(INT, base + 1, v);
+            current.setAtIndex(INT, base + 2, w);
+            currentSize++;
+            size++;
+        }
+
+        public OffHeapGraph build() {
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many arcs for an int-indexed graph: " + size);
+            }
+
+            Arena arena = Arena.ofShared();
+            try {
+                MemorySegment offsets = allocateInts(arena, n + 1L);
+                MemorySegment targets = allocateInts(arena, size);
+                MemorySegment weights = allocateInts(arena, size);
+
+                forEachStaged((u, v, w) -> offsets.setAtIndex(INT, u + 1, offsets.getAtIndex(INT, u + 1) + 1));
+                for (int u = 0; u < n; u++) {
+                    offsets.setAtIndex(INT, u + 1, offsets.getAtIndex(INT, u + 1) + offsets.getAtIndex(INT, u));
+                }
+
+                // Scatter using a native cursor copy of the offsets
+                MemorySegment cursor = allocateInts(staging, n);
+                MemorySegment.copy(offsets, 0, cursor, 0, (long) n * Integer.BYTES);
+                forEachStaged((u, v, w) -> {
+                    int slot = cursor.getAtIndex(INT, u);
+                    cursor.setAtIndex(INT, u, slot + 1);
+                    targets.setAtIndex(INT, slot, v);
+                    weights.setAtIndex(INT, slot, w);
+                });
+
+                return new OffHeapGraph(arena, n, directed, weightModel, offsets, targets, weights);
+            } catch (RuntimeException e) {
+                arena.close();
+                throw e;
+            } finally {
+                close();
+            }
+        }
+
+        private void forEachStaged(ArcVisitor visitor) {
+            long remaining = size;
+            for (MemorySegment chunk : chunks) {
+                long count = Math.min(remaining, CHUNK_EDGES);
+                for (long i = 0; i < count; i++) {
+                    long base = i * 3;
+                    visitor.visit(chunk.getAtIndex(INT, base), chunk.getAtIndex(INT, base + 1),
+                            chunk.getAtIndex(INT, base + 2));
+                }
+                remaining -= count;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (staging.scope().isAlive()) {
+                staging.close();
+            }
+        }
+
+        @FunctionalInterface
+        private interface ArcVisitor {
+            void visit(int u, int v, int w);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package graph.core;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel loader for the graph JSON layout. The file is memory-mapped, the
+ * {@code edges} array is located with a short top-level scan, and its bytes are cut
+ * into ranges that each own the edge records whose opening brace falls inside them.
+ * Ranges are parsed concurrently into primitive {@link EdgeBuffer}s and merged with
+ * {@link EdgeBuffer#mergeToCSR}, so arcs keep file order per vertex.
+ *
+ * <p>Assumes {@code edges} is the only array in the document and that edge records
+ * are flat objects, which is what {@code GraphGenerator.saveToJSON} produces.
+ */
+final class ParallelJsonLoader {
+    private static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    private static final long MIN_CHUNK_BYTES = 1 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int BYTES_PER_RECORD_ESTIMATE = 24;
+
+    private ParallelJsonLoader() {
+    }
+
+    static CSRGraph load(Path path, int[] sourceVertex, ForkJoinPool pool) throws IOException {
+        try (Arena arena = Arena.ofShared();
+             FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            long length = file.byteSize();
+
+            long open = findEdgesArray(file);
+            long close = open < 0 ? -1 : lastIndexOf(file, (byte) ']', open);
+            if (open < 0 || close < 0) {
+                // No edges section worth splitting; fall back to the streaming loader
+                return GraphLoader.loadFromJSON(
+                        new StringReader(slice(file, 0, length)), sourceVertex).toCSR();
+            }
+
+            String headerOnly = slice(file, 0, open + 1) + slice(file, close, length);
+            Graph header = GraphLoader.loadFromJSON(new StringReader(headerOnly), sourceVertex);
+            int n = header.getVertexCount();
+            boolean directed = header.isDirected();
+
+            long start = open + 1;
+            long chunkBytes = Math.max(MIN_CHUNK_BYTES,
+                    (close - start) / ((long) pool.getParallelism() * CHUNKS_PER_THREAD) + 1);
+            int chunks = (int) ((close - start + chunkBytes - 1) / chunkBytes);
+
+            List<EdgeBuffer> parts;
+            try {
+                parts = pool.submit(() -> IntStream.range(0, chunks).parallel()
+                        .mapToObj(c -> parseRange(file, start + c * chunkBytes,
+                                Math.min(close, start + (c + 1) * chunkBytes), close, n, directed))
+                        .collect(Collectors.toList())).join();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw e;
+            }
+
+            return EdgeBuffer.mergeToCSR(parts, n, directed, header.getWeightModel(), pool);
+        }
+    }
+
+    /** Position of the '[' opening the top-level {@code "edges"} value, or -1. */
+    private static long findEdgesArray(MemorySegment file) {
+        long length = file.byteSize();
+        int depth = 0;
+        long stringStart = -1;
+
+        for (long p = 0; p < length; p++) {
+            byte b = file.get(BYTE, p);
+            if (stringStart >= 0) {
+                if (b == '\\') {
+                    p++;
+                } else if (b == '"') {
+                    if (depth == 1 && isEdgesKey(file, stringStart, p)) {
+                        long q = skipWhitespace(file, p + 1, length);
+                        if (q < length && file.get(BYTE, q) == ':') {
+                            q = skipWhitespace(file, q + 1, length);
+                            if (q < length && file.get(BYTE, q) == '[') {
+                                return q;
+                            }
+                        }
+                    }
+                    stringStart = -1;
+                }
+            } else if (b == '"') {
+                stringStart = p + 1;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEdgesKey(MemorySegment file, long from, long to) {
+        byte[] key = {'e', 'd', 'g', 'e', 's'};
+        if (to - from != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (file.get(BYTE, from + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static EdgeBuffer parseRange(MemorySegment file, long lo, long hi, long end,
+                                         int n, boolean directed) {
+        EdgeBuffer buffer = new EdgeBuffer((int) ((hi - lo) / BYTES_PER_RECORD_ESTIMATE));
+        long p = lo;
+        while (true) {
+            p = indexOf(file, (byte) '{', p, end);
+            if (p < 0 || p >= hi) {
+                return buffer;
+            }
+            p = parseRecord(file, p + 1, end, buffer, n, directed);
+        }
+    }
+
+    /** Parses one {@code {"u": .., "v": .., "w": ..}} record body; returns the position after '}'. */
+    private static long parseRecord(MemorySegment file, long p, long end, EdgeBuffer buffer,
+                                    int n, boolean directed) {
+        long from = -1;
+        long to = -1;
+        long weight = 0;
+        boolean hasWeight = false;
+
+        while (p < end) {
+            byte b = file.get(BYTE, p);
+            if (b == '}') {
+                if (from < 0 || to < 0 || !hasWeight) {
+                    throw malformed("Edge must define \"u\", \"v\" and \"w\"", p);
+                }
+                if (from >= n || to >= n) {
+                    throw new IllegalArgumentException("Vertex index out of bounds: " + from + " -> " + to);
+                }
+                buffer.addEdge((int) from, (int) to, (int) weight);
+                if (!directed) {
+                    buffer.addEdge((int) to, (int) from, (int) weight);
+                }
+                return p + 1;
+            }
+            if (b != '"') {
+                p++;
+                continue;
+            }
+
+            long keyEnd = indexOf(file, (byte) '"', p + 1, end);
+            if (keyEnd < 0) {
+                throw malformed("Unterminated key", p);
+            }
+            byte key = keyEnd - p == 2 ? file.get(BYTE, p + 1) : 0;
+            p = indexOf(file, (byte) ':', keyEnd + 1, end);
+            if (p < 0) {
+                throw malformed("Expected ':'", keyEnd);
+            }
+            p = skipWhitespace(file, p + 1, end);
+
+            if (key == 'u' || key == 'v' || key == 'w') {
+                boolean negative = p < end && file.get(BYTE, p) == '-';
+                if (negative) {
+                    p++;
+                }
+                long value = 0;
+                long digitsStart = p;
+                while (p < end) {
+                    byte d = file.get(BYTE, p);
+                    if (d < '0' || d > '9') {
+                        break;
+                    }
+                    value = value * 10 + (d - '0');
+                    if (value > (negative ? Integer.MAX_VALUE + 1L : Integer.MAX_VALUE)) {
+                        throw malformed("Integer overflow", p);
+                    }
+                    p++;
+                }
+                if (p == digitsStart) {
+                    throw malformed("Expected integer for \"" + (char) key + "\"", p);
+                }
+                value = negative ? -value : value;
+                if (key == 'u') {
+                    from = value;
+                } else if (key == 'v') {
+                    to = value;
+                } else {
+                    weight = value;
+                    hasWeight = true;
+                }
+            } else {
+                p = skipValue(file, p, end);
+            }
+        }
+        throw malformed("Unterminated edge record", p);
+    }
+
+    private static long skipValue(MemorySegment file, long p, long end) {
+        boolean inString = false;
+        while (p < end) {
+            byte b = file.get(BYTE, p);
+            if (inString) {
+                if (b == '\\') {
+                    p++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == ',' || b == '}') {
+                return p;
+            }
+            p++;
+        }
+        return p;
+    }
+
+    private static long skipWhitespace(MemorySegment file, long p, long end) {
+        while (p < end) {
+            byte b = file.get(BYTE, p);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                break;
+            }
+            p++;
+        }
+        return p;
+    }
+
+    private static long indexOf(MemorySegment file, byte target, long from, long end) {
+        for (long p = from; p < end; p++) {
+            if (file.get(BYTE, p) == target) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    private static long lastIndexOf(MemorySegment file, byte target, long after) {
+        for (long p = file.byteSize() - 1; p > after; p--) {
+            if (file.get(BYTE, p) == target) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    private static String slice(MemorySegment file, long from, long to) {
+        return new String(file.asSlice(from, to - from).toArray(BYTE), StandardCharsets.UTF_8);
+    }
+
+    private static UncheckedIOException malformed(String message, long position) {
+        return new UncheckedIOException(new IOException(message + " at byte " + position));
+    }
+}
@@ -0,0 +1,60 @@
+package graph.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Collects arcs into a fixed number of partitions, each with its own {@link EdgeSink},
+ * and merges them in partition order. Unlike {@link ConcurrentGraphBuilder} the result
+ * depends only on what each partition received, never on which thread filled it, so
+ * parallel producers get a reproducible graph. Each partition sink must be used by one
+ * thread at a time.
+ */
+public final class PartitionedGraphBuilder {
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final EdgeBuffer[] partitions;
+
+    public PartitionedGraphBuilder(int n, boolean directed, String weightModel, int partitionCount) {
+        if (n < 0 || partitionCount < 0) {
+            throw new IllegalArgumentException("Invalid builder size: n=" + n + ", partitions=" + partitionCount);
+        }
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.partitions = new EdgeBuffer[partitionCount];
+        Arrays.setAll(partitions, p -> new EdgeBuffer());
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /** Sink for partition {@code p}; undirected edges get their reverse arc in the same partition. */
+    public EdgeSink partition(int p) {
+        EdgeBuffer buffer = partitions[p];
+        return (u, v, weight) -> {
+            if (u < 0 || u >= n || v < 0 || v >= n) {
+                throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
+            }
+            buffer.addEdge(u, v, weight);
+
+            // If undirected, add reverse edge
+            if (!directed) {
+                buffer.addEdge(v, u, weight);
+            }
+        };
+    }
+
+    public CSRGraph build() {
+        return build(ForkJoinPool.commonPool());
+    }
+
+    public CSRGraph build(ForkJoinPool pool) {
+        List<EdgeBuffer> parts = new ArrayList<>(Arrays.asList(partitions));
+        return EdgeBuffer.mergeToCSR(parts, n, directed, weightModel, pool);
+    }
+}
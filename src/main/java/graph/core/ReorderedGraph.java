@@ -0,0 +1,29 @@
+package graph.core;
+
+/**
+ * A graph relabeled by a {@link VertexOrdering}. Algorithms accepting a
+ * {@code ReorderedGraph} run on the cache-friendly {@link #getGraph() relabeled copy}
+ * but take and return original vertex ids.
+ */
+public final class ReorderedGraph {
+    private final CSRGraph graph;
+    private final VertexOrdering ordering;
+
+    ReorderedGraph(CSRGraph graph, VertexOrdering ordering) {
+        this.graph = graph;
+        this.ordering = ordering;
+    }
+
+    /** The relabeled graph; its vertex ids are {@link VertexOrdering#toRelabeled relabeled} ids. */
+    public CSRGraph getGraph() {
+        return graph;
+    }
+
+    public VertexOrdering getOrdering() {
+        return ordering;
+    }
+
+    public int getVertexCount() {
+        return graph.getVertexCount();
+    }
+}
@@ -0,0 +1,221 @@
+package graph.core;
+
+import java.util.Arrays;
+
+/**
+ * A vertex relabeling {@code old -> new} together with its inverse. Orderings that place
+ * vertices visited together next to each other (BFS, Reverse Cuthill-McKee, topological)
+ * make the DFS and relaxation loops walk memory mostly forward.
+ */
+public final class VertexOrdering {
+    private final int[] newToOld;
+    private final int[] oldToNew;
+
+    private VertexOrdering(int[] newToOld) {
+        this.newToOld = newToOld;
+        this.oldToNew = new int[newToOld.length];
+        Arrays.fill(oldToNew, -1);
+        for (int x = 0; x < newToOld.length; x++) {
+            int old = newToOld[x];
+            if (old < 0 || old >= newToOld.length || oldToNew[old] != -1) {
+                throw new IllegalArgumentException("Not a permutation: vertex " + old + " at position " + x);
+            }
+            oldToNew[old] = x;
+        }
+    }
+
+    /** @param newToOld {@code newToOld[x]} is the original id of the vertex relabeled {@code x} */
+    public static VertexOrdering fromNewToOld(int[] newToOld) {
+        return new VertexOrdering(Arrays.copyOf(newToOld, newToOld.length));
+    }
+
+    public static VertexOrdering identity(int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return new VertexOrdering(order);
+    }
+
+    /** Breadth-first order along out-arcs, starting new searches from the smallest unvisited id. */
+    public static VertexOrdering breadthFirst(GraphView g) {
+        int n = g.getVertexCount();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            order[tail++] = root;
+            for (int head = tail - 1; head < tail; head++) {
+                int u = order[head];
+                int degree = g.getOutDegree(u);
+                for (int i = 0; i < degree; i++) {
+                    int v = g.getNeighbor(u, i);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        order[tail++] = v;
+                    }
+                }
+            }
+        }
+        return new VertexOrdering(order);
+    }
+
+    /**
+     * Reverse Cuthill-McKee over the underlying undirected graph: BFS from a minimum-degree
+     * vertex, enqueueing neighbors by increasing degree, then reversed. Keeps the bandwidth
+     * of the adjacency matrix low, so neighbor ids stay close to the vertex id.
+     */
+    public static VertexOrdering reverseCuthillMcKee(GraphView g) {
+        int n = g.getVertexCount();
+        GraphView[] sides = g.isDirected() ? new GraphView[]{g, g.getTranspose()} : new GraphView[]{g};
+        int[] degree = new int[n];
+        for (GraphView side : sides) {
+            for (int u = 0; u < n; u++) {
+                degree[u] += side.getOutDegree(u);
+            }
+        }
+
+        long[] byDegree = new long[n];
+        for (int u = 0; u < n; u++) {
+            byDegree[u] = ((long) degree[u] << 32) | u;
+        }
+        Arrays.sort(byDegree);
+
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        long[] scratch = new long[16];
+        int tail = 0;
+
+        for (long packed : byDegree) {
+            int root = (int) packed;
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            order[tail++] = root;
+            for (int head = tail - 1; head < tail; head++) {
+                int u = order[head];
+                int count = 0;
+                for (GraphView side : sides) {
+                    int d = side.getOutDegree(u);
+                    for (int i = 0; i < d; i++) {
+                        int v = side.getNeighbor(u, i);
+                        if (!visited[v]) {
+                            visited[v] = true;
+                            if (count == scratch.length) {
+                                scratch = Arrays.copyOf(scratch, count * 2);
+                            }
+                            scratch[count++] = ((long) degree[v] << 32) | v;
+                        }
+                    }
+                }
+                Arrays.sort(scratch, 0, count);
+                for (int i = 0; i < count; i++) {
+                    order[tail++] = (int) scratch[i];
+                }
+            }
+        }
+
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        return new VertexOrdering(order);
+    }
+
+    /**
+     * Kahn topological order, so every arc of a DAG points to a higher id. Vertices on
+     * cycles, which Kahn never releases, follow in id order.
+     */
+    public static VertexOrdering topological(GraphView g) {
+        int n = g.getVertexCount();
+        int[] inDegree = new int[n];
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                inDegree[g.getNeighbor(u, i)]++;
+            }
+        }
+
+        int[] order = new int[n];
+        boolean[] placed = new boolean[n];
+        int tail = 0;
+        for (int u = 0; u < n; u++) {
+            if (inDegree[u] == 0) {
+                order[tail++] = u;
+                placed[u] = true;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                int v = g.getNeighbor(u, i);
+                if (--inDegree[v] == 0) {
+                    order[tail++] = v;
+                    placed[v] = true;
+                }
+            }
+        }
+        for (int u = 0; u < n && tail < n; u++) {
+            if (!placed[u]) {
+                order[tail++] = u;
+            }
+        }
+        return new VertexOrdering(order);
+    }
+
+    public int size() {
+        return newToOld.length;
+    }
+
+    public int toOriginal(int relabeled) {
+        return newToOld[relabeled];
+    }
+
+    public int toRelabeled(int original) {
+        return oldToNew[original];
+    }
+
+    public int[] getNewToOld() {
+        return Arrays.copyOf(newToOld, newToOld.length);
+    }
+
+    public int[] getOldToNew() {
+        return Arrays.copyOf(oldToNew, oldToNew.length);
+    }
+
+    /** Relabels {@code g}; arcs keep their per-vertex order. */
+    public ReorderedGraph apply(GraphView g) {
+        int n = g.getVertexCount();
+        if (n != newToOld.length) {
+            throw new IllegalArgumentException("Ordering has " + newToOld.length + " vertices, graph has " + n);
+        }
+
+        int[] offsets = new int[n + 1];
+        for (int x = 0; x < n; x++) {
+            offsets[x + 1] = offsets[x] + g.getOutDegree(newToOld[x]);
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int x = 0; x < n; x++) {
+            int u = newToOld[x];
+            int base = offsets[x];
+            int degree = offsets[x + 1] - base;
+            for (int i = 0; i < degree; i++) {
+                targets[base + i] = oldToNew[g.getNeighbor(u, i)];
+                weights[base + i] = g.getNeighborWeight(u, i);
+            }
+        }
+
+        CSRGraph relabeled = new CSRGraph(n, g.isDirected(), g.getWeightModel(), offsets, targets, weights);
+        return new ReorderedGraph(relabeled, this);
+    }
+}
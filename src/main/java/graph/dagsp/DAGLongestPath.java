@@ -1,15 +1,17 @@
 package graph.dagsp;
 
-import graph.core.Graph;
-import graph.core.Edge;
+import graph.core.GraphView;
+import graph.core.ReorderedGraph;
 import graph.metrics.Metrics;
 import graph.topo.TopologicalSort;
 import graph.topo.TopoResult;
 import java.util.*;
 
 public class DAGLongestPath {
+    /** Version of the distances, critical paths and metrics produced here; bump on any change. */
+    public static final int RESULT_VERSION = 2;
 
-    public PathResult findLongestPaths(Graph dag, int source, Metrics metrics) {
+    public PathResult findLongestPaths(GraphView dag, int source, Metrics metrics) {
         if (metrics == null) {
             metrics = new graph.metrics.MetricsCollector();
         }
@@ -40,10 +42,11 @@ public class DAGLongestPath {
 
         for (int u : topoOrder) {
             if (dist[u] != Integer.MIN_VALUE) {
-                for (Edge edge : dag.getNeighbors(u)) {
+                int degree = dag.getOutDegree(u);
+                for (int i = 0; i < degree; i++) {
                     metrics.incrementEdgeTraversals();
-                    int v = edge.getTo();
-                    int weight = edge.getWeight();
+                    int v = dag.getNeighbor(u, i);
+                    int weight = dag.getNeighborWeight(u, i);
 
                     metrics.incrementRelaxations();
                     if (dist[v] < dist[u] + weight) {
@@ -102,7 +105,7 @@ public class DAGLongestPath {
         return path;
     }
 
-    public PathResult findOverallCriticalPath(Graph dag, Metrics metrics) {
+    public PathResult findOverallCriticalPath(GraphView dag, Metrics metrics) {
         if (metrics == null) {
             metrics = new graph.metrics.MetricsCollector();
         }
@@ -133,11 +136,20 @@ public class DAGLongestPath {
         return bestResult;
     }
 
-    public PathResult findLongestPaths(Graph dag, int source) {
+    /** Runs on the relabeled graph; {@code source} and the result use original vertex ids. */
+    public PathResult findLongestPaths(ReorderedGraph dag, int source, Metrics metrics) {
+        if (source < 0 || source >= dag.getVertexCount()) {
+            throw new IllegalArgumentException("Source vertex out of bounds: " + source);
+        }
+        int relabeledSource = dag.getOrdering().toRelabeled(source);
+        return findLongestPaths(dag.getGraph(), relabeledSource, metrics).toOriginalIds(dag.getOrdering());
+    }
+
+    public PathResult findLongestPaths(GraphView dag, int source) {
         return findLongestPaths(dag, source, new graph.metrics.MetricsCollector());
     }
 
-    public PathResult findOverallCriticalPath(Graph dag) {
+    public PathResult findOverallCriticalPath(GraphView dag) {
         return findOverallCriticalPath(dag, new graph.metrics.MetricsCollector());
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package graph.dagsp;
 
-import graph.core.Graph;
-import graph.core.Edge;
+import graph.core.GraphView;
+import graph.core.ReorderedGraph;
 import graph.metrics.Metrics;
 import graph.topo.TopologicalSort;
 import graph.topo.TopoResult;
@@ -9,8 +9,10 @@ import java.util.*;
 
 
 public class DAGShortestPath {
+    /** Version of the distances, parents and metrics produced here; bump on any change. */
+    public static final int RESULT_VERSION = 2;
 
-    public PathResult findShortestPaths(Graph dag, int source, Metrics metrics) {
+    public PathResult findShortestPaths(GraphView dag, int source, Metrics metrics) {
         if (metrics == null) {
             metrics = new graph.metrics.MetricsCollector();
         }
@@ -41,10 +43,11 @@ public class DAGShortestPath {
 
         for (int u : topoOrder) {
             if (dist[u] != Integer.MAX_VALUE) {
-                for (Edge edge : dag.getNeighbors(u)) {
+                int degree = dag.getOutDegree(u);
+                for (int i = 0; i < degree; i++) {
                     metrics.incrementEdgeTraversals();
-                    int v = edge.getTo();
-                    int weight = edge.getWeight();
+                    int v = dag.getNeighbor(u, i);
+                    int weight = dag.getNeighborWeight(u, i);
 
                     metrics.incrementRelaxations();
                     if (dist[v] > dist[u] + weight) {
@@ -60,11 +63,20 @@ public class DAGShortestPath {
         return new PathResult(dist, parent, source, PathResult.PathType.SHORTEST);
     }
 
-    public PathResult findShortestPaths(Graph dag, int source) {
+    /** Runs on the relabeled graph; {@code source} and the result use original vertex ids. */
+    public PathResult findShortestPaths(ReorderedGraph dag, int source, Metrics metrics) {
+        if (source < 0 || source >= dag.getVertexCount()) {
+            throw new IllegalArgumentException("Source vertex out of bounds: " + source);
+        }
+        int relabeledSource = dag.getOrdering().toRelabeled(source);
+        return findShortestPaths(dag.getGraph(), relabeledSource, metrics).toOriginalIds(dag.getOrdering());
+    }
+
+    public PathResult findShortestPaths(GraphView dag, int source) {
         return findShortestPaths(dag, source, new graph.metrics.MetricsCollector());
     }
 
-    public PathResult findShortestPath(Graph dag, int source, int target, Metrics metrics) {
+    public PathResult findShortestPath(GraphView dag, int source, int target, Metrics metrics) {
         PathResult result = findShortestPaths(dag, source, metrics);
 
         List<Integer> path = result.getPath(target);
@@ -1,5 +1,6 @@
 package graph.dagsp;
 
+import graph.core.VertexOrdering;
 import java.util.*;
 
 public class PathResult {
@@ -35,6 +36,10 @@ public class PathResult {
         return Arrays.copyOf(distances, distances.length);
     }
 
+    public int[] getParents() {
+        return Arrays.copyOf(parent, parent.length);
+    }
+
     public int getSource() {
         return source;
     }
@@ -103,6 +108,27 @@ public class PathResult {
         return reachable;
     }
 
+    /** Maps a result computed on a relabeled graph back to original vertex ids. */
+    public PathResult toOriginalIds(VertexOrdering ordering) {
+        int n = distances.length;
+        int[] mappedDistances = new int[n];
+        int[] mappedParent = new int[n];
+        for (int x = 0; x < n; x++) {
+            int original = ordering.toOriginal(x);
+            mappedDistances[original] = distances[x];
+            mappedParent[original] = parent[x] == -1 ? -1 : ordering.toOriginal(parent[x]);
+        }
+
+        PathResult mapped = new PathResult(mappedDistances, mappedParent, ordering.toOriginal(source), pathType);
+        List<Integer> mappedPath = new ArrayList<>(criticalPath.size());
+        for (int x : criticalPath) {
+            mappedPath.add(ordering.toOriginal(x));
+        }
+        mapped.setCriticalPath(mappedPath);
+        mapped.setCriticalPathLength(criticalPathLength);
+        return mapped;
+    }
+
     public String getStatistics() {
         int reachableCount = getReachableVertices().size();
         int totalVertices = distances.length;
@@ -13,4 +13,18 @@ public interface Metrics {
     int getRelaxations();
     int getQueueOperations();
     void reset();
+
+    /** Records {@code count} DFS visits at once, e.g. from per-thread tallies. */
+    default void addDFSVisits(int count) {
+        for (int i = 0; i < count; i++) {
+            incrementDFSVisits();
+        }
+    }
+
+    /** Records {@code count} edge traversals at once, e.g. from per-thread tallies. */
+    default void addEdgeTraversals(int count) {
+        for (int i = 0; i < count; i++) {
+            incrementEdgeTraversals();
+        }
+    }
 }
\ No newline at end of file
@@ -23,6 +23,16 @@ public class MetricsCollector implements Metrics {
         edgeTraversals++;
     }
 
+    @Override
+    public synchronized void addDFSVisits(int count) {
+        dfsVisits += count;
+    }
+
+    @Override
+    public synchronized void addEdgeTraversals(int count) {
+        edgeTraversals += count;
+    }
+
     @Override
     public synchronized void incrementRelaxations() {
         relaxations++;
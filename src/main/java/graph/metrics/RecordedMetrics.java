@@ -0,0 +1,47 @@
+package graph.metrics;
+
+/**
+ * Immutable snapshot of the counters and time of a finished run, e.g. one whose result is
+ * kept in a cache. Unlike {@link Metrics} it cannot be incremented or timed.
+ */
+public final class RecordedMetrics {
+    private final int dfsVisits;
+    private final int edgeTraversals;
+    private final int relaxations;
+    private final int queueOperations;
+    private final long executionTimeNanos;
+
+    public RecordedMetrics(int dfsVisits, int edgeTraversals, int relaxations,
+                           int queueOperations, long executionTimeNanos) {
+        this.dfsVisits = dfsVisits;
+        this.edgeTraversals = edgeTraversals;
+        this.relaxations = relaxations;
+        this.queueOperations = queueOperations;
+        this.executionTimeNanos = executionTimeNanos;
+    }
+
+    public static RecordedMetrics of(Metrics metrics) {
+        return new RecordedMetrics(metrics.getDFSVisits(), metrics.getEdgeTraversals(),
+                metrics.getRelaxations(), metrics.getQueueOperations(), metrics.getExecutionTimeNanos());
+    }
+
+    public long getExecutionTimeNanos() {
+        return executionTimeNanos;
+    }
+
+    public int getDFSVisits() {
+        return dfsVisits;
+    }
+
+    public int getEdgeTraversals() {
+        return edgeTraversals;
+    }
+
+    public int getRelaxations() {
+        return relaxations;
+    }
+
+    public int getQueueOperations() {
+        return queueOperations;
+    }
+}
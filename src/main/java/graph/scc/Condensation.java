@@ -0,0 +1,130 @@
+package graph.scc;
+
+import graph.core.CSRGraph;
+import graph.core.EdgeSink;
+import graph.core.GraphNormalizer;
+import graph.core.GraphView;
+import graph.core.LongHashSet;
+import graph.core.PartitionedGraphBuilder;
+import graph.metrics.Metrics;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the condensation DAG and the {@link SCCResult} from a per-vertex component array.
+ * Vertex ranges are scanned in parallel, each keeping the first arc per component pair
+ * under a packed {@code long} key; a serial pass then drops pairs an earlier range already
+ * kept, and the survivors are merged into CSR in range order. The result matches a single
+ * scan in vertex order.
+ */
+final class Condensation {
+    /** Vertices scanned per task; smaller graphs are scanned in one pass. */
+    static final int RANGE_VERTICES = 1 << 14;
+
+    private Condensation() {
+    }
+
+    static SCCResult toResult(GraphView graph, List<List<Integer>> components, int[] component, Metrics metrics,
+                              ForkJoinPool pool) {
+        CSRGraph condensation = build(graph, components.size(), component, metrics, pool);
+        return new SCCResult(components, component, condensation);
+    }
+
+    /** One arc per ordered component pair, weighted by the first arc found between them. */
+    static CSRGraph build(GraphView graph, int componentCount, int[] component, Metrics metrics,
+                          ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        int ranges = Math.max(1, (n + RANGE_VERTICES - 1) / RANGE_VERTICES);
+        RangeArcs[] found = new RangeArcs[ranges];
+        if (ranges == 1) {
+            found[0] = scan(graph, component, 0, n);
+        } else {
+            pool.submit(() -> IntStream.range(0, ranges).parallel().forEach(r ->
+                    found[r] = scan(graph, component, r * RANGE_VERTICES, Math.min(n, (r + 1) * RANGE_VERTICES))
+            )).join();
+        }
+
+        int candidates = 0;
+        int traversals = 0;
+        for (RangeArcs arcs : found) {
+            candidates += arcs.size;
+            traversals += arcs.traversals;
+        }
+
+        // A single range is already deduplicated
+        LongHashSet kept = ranges == 1 ? null : new LongHashSet(candidates);
+        PartitionedGraphBuilder builder = new PartitionedGraphBuilder(componentCount, true,
+                graph.getWeightModel(), ranges);
+        for (int r = 0; r < ranges; r++) {
+            RangeArcs arcs = found[r];
+            EdgeSink sink = builder.partition(r);
+            for (int i = 0; i < arcs.size; i++) {
+                long key = arcs.keys[i];
+                if (kept == null || kept.add(key)) {
+                    sink.addEdge((int) (key >>> 32), (int) key, arcs.weights[i]);
+                }
+            }
+        }
+
+        metrics.addEdgeTraversals(traversals);
+        return builder.build(pool);
+    }
+
+    /**
+     * Condensation of {@code graph} under the partition {@code component}, with the weights of
+     * all arcs between two components combined by {@code policy}. Arcs are listed by
+     * increasing target component.
+     */
+    static CSRGraph merge(GraphView graph, int componentCount, int[] component, GraphNormalizer.MergePolicy policy) {
+        CSRGraph.Builder crossing = new CSRGraph.Builder(componentCount, true, graph.getWeightModel(),
+                graph.getEdgeCount());
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            int compU = component[u];
+            graph.forEachNeighbor(u, (v, weight) -> {
+                if (component[v] != compU) {
+                    crossing.addEdge(compU, component[v], weight);
+                }
+            });
+        }
+        return GraphNormalizer.normalize(crossing.build(), policy);
+    }
+
+    private static RangeArcs scan(GraphView graph, int[] component, int from, int to) {
+        RangeArcs arcs = new RangeArcs();
+        LongHashSet seen = new LongHashSet();
+        for (int u = from; u < to; u++) {
+            int compU = component[u];
+
+            int degree = graph.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                int compV = component[graph.getNeighbor(u, i)];
+                if (compU != compV) {
+                    long key = LongHashSet.pack(compU, compV);
+                    if (seen.add(key)) {
+                        arcs.add(key, graph.getNeighborWeight(u, i));
+                    }
+                }
+            }
+            arcs.traversals += degree;
+        }
+        return arcs;
+    }
+
+    /** First arc per component pair within one vertex range, in scan order. */
+    private static final class RangeArcs {
+        long[] keys = new long[16];
+        int[] weights = new int[16];
+        int size;
+        int traversals;
+
+        void add(long key, int weight) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            keys[size] = key;
+            weights[size++] = weight;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package graph.scc;
+
+/** Union-find over {@code 0..n-1} with union by size and path halving. */
+final class DisjointSets {
+    private final int[] parent;
+    private final int[] size;
+    private int sets;
+
+    DisjointSets(int n) {
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        sets = n;
+    }
+
+    int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /** Merges the sets of {@code a} and {@code b}; returns the surviving root. */
+    int union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) {
+            return ra;
+        }
+        if (size[ra] < size[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+        sets--;
+        return ra;
+    }
+
+    int size(int x) {
+        return size[find(x)];
+    }
+
+    int count() {
+        return sets;
+    }
+}
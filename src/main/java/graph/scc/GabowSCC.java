@@ -0,0 +1,92 @@
+package graph.scc;
+
+import graph.core.GraphView;
+import graph.core.NeighborCursor;
+import graph.metrics.Metrics;
+import graph.metrics.MetricsCollector;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Gabow's path-based algorithm without recursion. Instead of Tarjan's low-links it keeps
+ * a second stack of path boundaries, collapsed whenever an arc closes a cycle, so each
+ * vertex needs only a preorder number. Components come out in the same order as
+ * {@link TarjanSCC}, with the same visit and traversal counts.
+ */
+public class GabowSCC implements SCCAlgorithm {
+
+    @Override
+    public SCCResult findSCCs(GraphView g, Metrics metrics) {
+        int n = g.getVertexCount();
+        int[] preorder = new int[n];
+        Arrays.fill(preorder, -1);
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        int[] open = new int[n];       // vertices not yet assigned to a component
+        int openSize = 0;
+        int[] boundaries = new int[n]; // roots of the path's not-yet-merged segments
+        int boundarySize = 0;
+        int[] callStack = new int[n];
+        NeighborCursor arcs = g.neighborCursor();
+        int counter = 0;
+        List<List<Integer>> components = new ArrayList<>();
+
+        metrics.startTimer();
+
+        for (int root = 0; root < n; root++) {
+            if (preorder[root] != -1) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = root;
+            metrics.incrementDFSVisits();
+            preorder[root] = counter++;
+            open[openSize++] = root;
+            boundaries[boundarySize++] = root;
+
+            while (depth > 0) {
+                int u = callStack[depth - 1];
+
+                if (arcs.hasNext(u)) {
+                    metrics.incrementEdgeTraversals();
+                    int v = arcs.next(u);
+                    if (preorder[v] == -1) {
+                        callStack[depth++] = v;
+                        metrics.incrementDFSVisits();
+                        preorder[v] = counter++;
+                        open[openSize++] = v;
+                        boundaries[boundarySize++] = v;
+                    } else if (component[v] == -1) {
+                        // v is on the path: merge every segment that started after it
+                        while (preorder[boundaries[boundarySize - 1]] > preorder[v]) {
+                            boundarySize--;
+                        }
+                    }
+                    continue;
+                }
+
+                depth--;
+                if (boundaries[boundarySize - 1] == u) {
+                    boundarySize--;
+                    int id = components.size();
+                    List<Integer> members = new ArrayList<>();
+                    int w;
+                    do {
+                        w = open[--openSize];
+                        component[w] = id;
+                        members.add(w);
+                    } while (w != u);
+                    components.add(members);
+                }
+            }
+        }
+
+        metrics.stopTimer();
+
+        return Condensation.toResult(g, components, component, metrics, ForkJoinPool.commonPool());
+    }
+
+    public SCCResult findSCCs(GraphView g) {
+        return findSCCs(g, new MetricsCollector());
+    }
+}
@@ -0,0 +1,464 @@
+package graph.scc;
+
+import graph.core.CSRGraph;
+import graph.core.Edge;
+import graph.core.EdgeSink;
+import graph.core.GraphView;
+import graph.core.LongHashSet;
+import graph.metrics.Metrics;
+import graph.metrics.MetricsCollector;
+import java.util.*;
+
+/**
+ * Strongly connected components maintained under arc insertions. Components only ever
+ * merge, so membership lives in a union-find structure whose roots stand for components,
+ * and the condensation is kept together with a topological order of its components
+ * (Pearce-Kelly). An arc that agrees with the order costs O(1). One that contradicts it
+ * searches only the components positioned between its endpoints: a forward search from
+ * the head and a backward search from the tail. If they meet, the components on the new
+ * cycle merge; either way the visited components are reordered within the positions
+ * they already held.
+ *
+ * <p>Condensation arcs carry the weight of the first arc recorded between their two
+ * components. DFS visits and edge traversals count the components and condensation arcs
+ * touched by the searches.
+ */
+public class IncrementalSCC implements EdgeSink {
+    private final int n;
+    private final String weightModel;
+    private final DisjointSets sets;
+    private final int[] nextMember; // circular member list per component
+    private final int[] order;      // topological position of each root
+    private int componentCount;
+
+    // Condensation arcs per root; targets may name stale roots and are resolved via find
+    private final int[][] outArcs;
+    private final int[][] outWeights;
+    private final int[] outCount;
+    private final int[][] inArcs;
+    private final int[] inCount;
+    private final LongHashSet arcIndex = new LongHashSet(16);
+
+    private final int[] forwardMark;
+    private final int[] backwardMark;
+    private final int[] pooled;     // merge-time dedupe: heads stamped epoch, tails -epoch
+    private int epoch;
+    private final int[] stack;
+
+    /** Starts with {@code n} singleton components and no arcs. */
+    public IncrementalSCC(int n) {
+        this(n, "edge");
+    }
+
+    private IncrementalSCC(int n, String weightModel) {
+        this.n = n;
+        this.weightModel = weightModel;
+        this.sets = new DisjointSets(n);
+        this.nextMember = new int[n];
+        this.order = new int[n];
+        this.outArcs = new int[n][];
+        this.outWeights = new int[n][];
+        this.outCount = new int[n];
+        this.inArcs = new int[n][];
+        this.inCount = new int[n];
+        this.forwardMark = new int[n];
+        this.backwardMark = new int[n];
+        this.pooled = new int[n];
+        this.stack = new int[n];
+        for (int v = 0; v < n; v++) {
+            nextMember[v] = v;
+            order[v] = v;
+        }
+        this.componentCount = n;
+    }
+
+    /** Starts from the components of {@code g}, computed once with {@link TarjanSCC}. */
+    public IncrementalSCC(GraphView g) {
+        this(g.getVertexCount(), g.getWeightModel());
+        SCCResult initial = new TarjanSCC().findSCCs(g, new MetricsCollector());
+
+        int count = initial.getComponentCount();
+        int[] rootOf = new int[count];
+        for (int c = 0; c < count; c++) {
+            List<Integer> members = initial.getComponentVertices(c);
+            int first = members.get(0);
+            for (int v : members) {
+                if (v != first) {
+                    sets.union(first, v);
+                    splice(first, v);
+                    componentCount--;
+                }
+            }
+            rootOf[c] = sets.find(first);
+            // Tarjan emits components in reverse topological order
+            order[rootOf[c]] = count - 1 - c;
+        }
+
+        CSRGraph condensation = initial.getCondensationCSR();
+        for (int c = 0; c < count; c++) {
+            for (int i = 0; i < condensation.getOutDegree(c); i++) {
+                link(rootOf[c], rootOf[condensation.getNeighbor(c, i)], condensation.getNeighborWeight(c, i));
+            }
+        }
+    }
+
+    public int getVertexCount() {
+        return n;
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public boolean areInSameComponent(int u, int v) {
+        return sets.find(u) == sets.find(v);
+    }
+
+    /** Representative vertex of {@code v}'s component; it changes only when the component merges. */
+    public int getRepresentative(int v) {
+        return sets.find(checkVertex(v));
+    }
+
+    /** Members of {@code v}'s component in ascending order. */
+    public List<Integer> getComponentMembers(int v) {
+        int root = sets.find(checkVertex(v));
+        List<Integer> members = new ArrayList<>();
+        int w = root;
+        do {
+            members.add(w);
+            w = nextMember[w];
+        } while (w != root);
+        Collections.sort(members);
+        return members;
+    }
+
+    /**
+     * Position of {@code v}'s component in the maintained topological order, below that of
+     * every component it has an arc to. Positions are distinct but not contiguous.
+     */
+    public int getTopologicalPosition(int v) {
+        return order[sets.find(checkVertex(v))];
+    }
+
+    /** Representatives of the components that {@code v}'s component has an arc to. */
+    public List<Integer> getSuccessorComponents(int v) {
+        int root = sets.find(checkVertex(v));
+        // Stale targets of merged components may resolve to the same root
+        epoch++;
+        List<Integer> successors = new ArrayList<>();
+        for (int i = 0; i < outCount[root]; i++) {
+            int d = sets.find(outArcs[root][i]);
+            if (d != root && pooled[d] != epoch) {
+                pooled[d] = epoch;
+                successors.add(d);
+            }
+        }
+        return successors;
+    }
+
+    private int checkVertex(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vertex index out of bounds: " + v);
+        }
+        return v;
+    }
+
+    @Override
+    public void addEdge(int u, int v, int weight) {
+        insert(u, v, weight, null);
+    }
+
+    /** Applies a batch of insertions, recording the search work in {@code metrics}. */
+    public void addEdges(List<Edge> batch, Metrics metrics) {
+        metrics.startTimer();
+        for (Edge edge : batch) {
+            insert(edge.getFrom(), edge.getTo(), edge.getWeight(), metrics);
+        }
+        metrics.stopTimer();
+    }
+
+    /** {@code metrics} is null for single inserts, which nobody measures. */
+    private void insert(int u, int v, int weight, Metrics metrics) {
+        if (u < 0 || u >= n || v < 0 || v >= n) {
+            throw new IllegalArgumentException("Vertex index out of bounds: " + u + " -> " + v);
+        }
+        int cu = sets.find(u);
+        int cv = sets.find(v);
+        if (cu == cv || !link(cu, cv, weight)) {
+            return;
+        }
+        if (order[cu] < order[cv]) {
+            return;
+        }
+        restoreOrder(cu, cv, metrics);
+    }
+
+    /** Records root arc {@code a -> b}; false if it was already known. */
+    private boolean link(int a, int b, int weight) {
+        if (!arcIndex.add(LongHashSet.pack(a, b))) {
+            return false;
+        }
+        append(a, b, weight);
+        if (inArcs[b] == null || inCount[b] == inArcs[b].length) {
+            inArcs[b] = grow(inArcs[b], inCount[b]);
+        }
+        inArcs[b][inCount[b]++] = a;
+        return true;
+    }
+
+    private void append(int a, int b, int weight) {
+        if (outArcs[a] == null || outCount[a] == outArcs[a].length) {
+            outArcs[a] = grow(outArcs[a], outCount[a]);
+            outWeights[a] = grow(outWeights[a], outCount[a]);
+        }
+        outArcs[a][outCount[a]] = b;
+        outWeights[a][outCount[a]] = weight;
+        outCount[a]++;
+    }
+
+    private static int[] grow(int[] array, int size) {
+        return array == null ? new int[4] : Arrays.copyOf(array, Math.max(4, size + (size >> 1)));
+    }
+
+    /** Pearce-Kelly repair after arc {@code tail -> head} with order[tail] > order[head]. */
+    private void restoreOrder(int tail, int head, Metrics metrics) {
+        epoch++;
+        int[] forward = search(head, order[tail], true, metrics);
+        int[] backward = search(tail, order[head], false, metrics);
+        boolean cycle = forwardMark[tail] == epoch;
+
+        int[] positions = new int[forward.length + backward.length];
+        int p = 0;
+        for (int c : backward) {
+            positions[p++] = order[c];
+        }
+        for (int c : forward) {
+            if (backwardMark[c] != epoch) {
+                positions[p++] = order[c];
+            }
+        }
+        positions = Arrays.copyOf(positions, p);
+        Arrays.sort(positions);
+        sortByOrder(backward);
+        sortByOrder(forward);
+
+        int root = -1;
+        if (cycle) {
+            root = merge(forward, metrics);
+        }
+
+        // Ancestors of the tail take the lowest positions and descendants of the head the
+        // highest, so neither moves past a component outside the searches; a merged cycle
+        // sits right after the ancestors and frees the positions its members held
+        p = 0;
+        for (int c : backward) {
+            if (forwardMark[c] != epoch) {
+                order[c] = positions[p++];
+            }
+        }
+        if (cycle) {
+            order[root] = positions[p];
+        }
+        p = positions.length;
+        for (int i = forward.length - 1; i >= 0; i--) {
+            if (backwardMark[forward[i]] != epoch) {
+                order[forward[i]] = positions[--p];
+            }
+        }
+    }
+
+    /**
+     * Collects the roots reachable from {@code start} (forward) or reaching it (backward)
+     * whose position stays within {@code bound}.
+     */
+    private int[] search(int start, int bound, boolean forward, Metrics metrics) {
+        int[] mark = forward ? forwardMark : backwardMark;
+        int[][] arcs = forward ? outArcs : inArcs;
+        int[] counts = forward ? outCount : inCount;
+        int[] found = new int[8];
+        int size = 0;
+        int traversals = 0;
+        int top = 0;
+        mark[start] = epoch;
+        stack[top++] = start;
+
+        while (top > 0) {
+            int c = stack[--top];
+            if (size == found.length) {
+                found = Arrays.copyOf(found, size * 2);
+            }
+            found[size++] = c;
+
+            traversals += counts[c];
+            for (int i = 0; i < counts[c]; i++) {
+                int d = sets.find(arcs[c][i]);
+                boolean inRange = forward ? order[d] <= bound : order[d] >= bound;
+                if (d != c && mark[d] != epoch && inRange) {
+                    mark[d] = epoch;
+                    stack[top++] = d;
+                }
+            }
+        }
+        if (metrics != null) {
+            metrics.addDFSVisits(size);
+            metrics.addEdgeTraversals(traversals);
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    private void sortByOrder(int[] roots) {
+        long[] keys = new long[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            keys[i] = ((long) order[roots[i]] << 32) | roots[i];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] = (int) keys[i];
+        }
+    }
+
+    /** Merges every forward root that also reaches the tail; returns the new root. */
+    private int merge(int[] forward, Metrics metrics) {
+        List<Integer> merged = new ArrayList<>();
+        for (int c : forward) {
+            if (backwardMark[c] == epoch) {
+                merged.add(c);
+            }
+        }
+
+        // Index keys name roots, so every key of a merged root goes stale; the pooled
+        // arcs are indexed again under the new root below
+        for (int c : merged) {
+            for (int i = 0; i < outCount[c]; i++) {
+                arcIndex.remove(LongHashSet.pack(c, sets.find(outArcs[c][i])));
+            }
+            for (int i = 0; i < inCount[c]; i++) {
+                arcIndex.remove(LongHashSet.pack(sets.find(inArcs[c][i]), c));
+            }
+        }
+
+        int first = -1;
+        for (int c : merged) {
+            if (first == -1) {
+                first = c;
+            } else {
+                sets.union(first, c);
+                splice(first, c);
+                componentCount--;
+            }
+        }
+        int root = sets.find(first);
+
+        // Pool the merged components' arcs under the new root, dropping internal ones
+        int[] outs = new int[0];
+        int[] weights = new int[0];
+        int outSize = 0;
+        int[] ins = new int[0];
+        int inSize = 0;
+        int traversals = 0;
+        for (int c : merged) {
+            traversals += outCount[c];
+            for (int i = 0; i < outCount[c]; i++) {
+                int d = sets.find(outArcs[c][i]);
+                if (d != root && pooled[d] != epoch) {
+                    pooled[d] = epoch;
+                    if (outSize == outs.length) {
+                        outs = grow(outs, outSize);
+                        weights = grow(weights, outSize);
+                    }
+                    outs[outSize] = d;
+                    weights[outSize++] = outWeights[c][i];
+                }
+            }
+            for (int i = 0; i < inCount[c]; i++) {
+                int d = sets.find(inArcs[c][i]);
+                if (d != root && pooled[d] != -epoch) {
+                    pooled[d] = -epoch;
+                    if (inSize == ins.length) {
+                        ins = grow(ins, inSize);
+                    }
+                    ins[inSize++] = d;
+                }
+            }
+            outArcs[c] = null;
+            outWeights[c] = null;
+            outCount[c] = 0;
+            inArcs[c] = null;
+            inCount[c] = 0;
+        }
+        outArcs[root] = outs;
+        outWeights[root] = weights;
+        outCount[root] = outSize;
+        inArcs[root] = ins;
+        inCount[root] = inSize;
+        if (metrics != null) {
+            metrics.addEdgeTraversals(traversals);
+        }
+
+        // Later insertions look arcs up by the new root on either side
+        for (int i = 0; i < outSize; i++) {
+            arcIndex.add(LongHashSet.pack(root, outs[i]));
+        }
+        for (int i = 0; i < inSize; i++) {
+            arcIndex.add(LongHashSet.pack(ins[i], root));
+        }
+        return root;
+    }
+
+    /** Joins the circular member lists of {@code a} and {@code b}. */
+    private void splice(int a, int b) {
+        int t = nextMember[a];
+        nextMember[a] = nextMember[b];
+        nextMember[b] = t;
+    }
+
+    /**
+     * Materializes the current state. Components are numbered in topological order of the
+     * condensation and list their members in ascending order. This rebuilds every component
+     * and arc; the queries above answer for one component without doing so.
+     */
+    public SCCResult toSCCResult() {
+        Integer[] roots = new Integer[componentCount];
+        int r = 0;
+        for (int v = 0; v < n; v++) {
+            if (sets.find(v) == v) {
+                roots[r++] = v;
+            }
+        }
+        Arrays.sort(roots, Comparator.comparingInt(c -> order[c]));
+
+        int[] idOf = new int[n];
+        List<List<Integer>> components = new ArrayList<>(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            idOf[roots[c]] = c;
+            List<Integer> members = new ArrayList<>();
+            int v = roots[c];
+            do {
+                members.add(v);
+                v = nextMember[v];
+            } while (v != roots[c]);
+            Collections.sort(members);
+            components.add(members);
+        }
+
+        int[] componentOf = new int[n];
+        for (int v = 0; v < n; v++) {
+            componentOf[v] = idOf[sets.find(v)];
+        }
+
+        CSRGraph.Builder condensation = new CSRGraph.Builder(componentCount, true, weightModel);
+        int[] seen = new int[componentCount];
+        Arrays.fill(seen, -1);
+        for (int c = 0; c < componentCount; c++) {
+            int root = roots[c];
+            for (int i = 0; i < outCount[root]; i++) {
+                int d = idOf[sets.find(outArcs[root][i])];
+                if (d != c && seen[d] != c) {
+                    seen[d] = c;
+                    condensation.addEdge(c, d, outWeights[root][i]);
+                }
+            }
+        }
+        return new SCCResult(components, componentOf, condensation.build());
+    }
+}
@@ -0,0 +1,99 @@
+package graph.scc;
+
+import graph.core.GraphView;
+import graph.core.NeighborCursor;
+import graph.metrics.Metrics;
+import graph.metrics.MetricsCollector;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Kosaraju's two-sweep algorithm without recursion: a DFS over the graph records finish
+ * order, then searches over the cached transpose ({@link GraphView#getTranspose()}) in
+ * reverse finish order each collect one component. Components come out in topological
+ * order of the condensation. Every vertex is visited and every arc traversed once per
+ * sweep.
+ */
+public class KosarajuSCC implements SCCAlgorithm {
+
+    @Override
+    public SCCResult findSCCs(GraphView g, Metrics metrics) {
+        int n = g.getVertexCount();
+
+        metrics.startTimer();
+        GraphView transpose = g.getTranspose();
+
+        // Sweep 1: finish order of an iterative DFS
+        int[] finished = new int[n];
+        int finishedCount = 0;
+        boolean[] visited = new boolean[n];
+        int[] stack = new int[n];
+        NeighborCursor arcs = g.neighborCursor();
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            metrics.incrementDFSVisits();
+            visited[root] = true;
+            int depth = 0;
+            stack[depth++] = root;
+
+            while (depth > 0) {
+                int u = stack[depth - 1];
+                if (arcs.hasNext(u)) {
+                    metrics.incrementEdgeTraversals();
+                    int v = arcs.next(u);
+                    if (!visited[v]) {
+                        metrics.incrementDFSVisits();
+                        visited[v] = true;
+                        stack[depth++] = v;
+                    }
+                    continue;
+                }
+                depth--;
+                finished[finishedCount++] = u;
+            }
+        }
+
+        // Sweep 2: each search over the transpose from the latest finisher is one component
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        List<List<Integer>> components = new ArrayList<>();
+        for (int f = n - 1; f >= 0; f--) {
+            int root = finished[f];
+            if (component[root] != -1) {
+                continue;
+            }
+            int id = components.size();
+            List<Integer> members = new ArrayList<>();
+            metrics.incrementDFSVisits();
+            component[root] = id;
+            int top = 0;
+            stack[top++] = root;
+
+            while (top > 0) {
+                int u = stack[--top];
+                members.add(u);
+                int degree = transpose.getOutDegree(u);
+                for (int i = 0; i < degree; i++) {
+                    metrics.incrementEdgeTraversals();
+                    int v = transpose.getNeighbor(u, i);
+                    if (component[v] == -1) {
+                        metrics.incrementDFSVisits();
+                        component[v] = id;
+                        stack[top++] = v;
+                    }
+                }
+            }
+            components.add(members);
+        }
+
+        metrics.stopTimer();
+
+        return Condensation.toResult(g, components, component, metrics, ForkJoinPool.commonPool());
+    }
+
+    public SCCResult findSCCs(GraphView g) {
+        return findSCCs(g, new MetricsCollector());
+    }
+}
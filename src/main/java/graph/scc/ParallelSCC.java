@@ -0,0 +1,374 @@
+package graph.scc;
+
+import graph.core.GraphView;
+import graph.metrics.Metrics;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-core SCC decomposition by forward-backward search with trimming. Each partition
+ * (a "color") first peels vertices with no in- or out-arc inside it, which are singleton
+ * components, then takes the SCC of a pivot as the intersection of its forward and
+ * backward reach. The forward-only, backward-only and unreached remainders hold whole
+ * components and are solved as independent fork-join tasks. Searches and peeling run
+ * depth-first on one reusable stack per task, and switch to parallel level-by-level
+ * expansion only while at least {@link #PARALLEL_FRONTIER} vertices are pending, so long
+ * thin paths cost no more than a serial search. Partitions below {@link #SERIAL_PARTITION}
+ * vertices are finished with a serial Tarjan pass restricted to the partition, since
+ * forward-backward splitting of a chain-like remainder needs O(n log n) work.
+ *
+ * <p>Components are numbered by their smallest vertex and list their members in
+ * ascending order, so results do not depend on the pool size. Tarjan numbers them in
+ * reverse topological order instead. Edge traversals count arcs scanned by trimming and
+ * searches; DFS visits count vertices trimmed or reached.
+ */
+public class ParallelSCC implements SCCAlgorithm {
+    static final int PARALLEL_FRONTIER = 1 << 12;
+    static final int SERIAL_PARTITION = 1 << 14;
+    private static final int UNASSIGNED = -1;
+
+    private final ForkJoinPool pool;
+
+    public ParallelSCC() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelSCC(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public SCCResult findSCCs(GraphView g, Metrics m) {
+        int n = g.getVertexCount();
+
+        m.startTimer();
+        Search search = new Search(g);
+        pool.invoke(search.new Partition(search.colors.getAndIncrement(), IntStream.range(0, n).toArray()));
+        m.stopTimer();
+
+        m.addDFSVisits(search.visits.intValue());
+        m.addEdgeTraversals(search.traversals.intValue());
+
+        // Labels are representative vertices; renumber in order of first (smallest) member
+        int[] component = new int[n];
+        int[] idOf = new int[n];
+        Arrays.fill(idOf, UNASSIGNED);
+        List<List<Integer>> components = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            int label = search.label.get(v);
+            if (idOf[label] == UNASSIGNED) {
+                idOf[label] = components.size();
+                components.add(new ArrayList<>());
+            }
+            component[v] = idOf[label];
+            components.get(component[v]).add(v);
+        }
+
+        return Condensation.toResult(g, components, component, m, pool);
+    }
+
+    public SCCResult findSCCs(GraphView g) {
+        return findSCCs(g, new graph.metrics.MetricsCollector());
+    }
+
+    private interface Expander {
+        void expand(int u, IntConsumer next);
+    }
+
+    private static final class Search {
+        private final GraphView out;
+        private final GraphView in;
+        private final int[] color;
+        private final AtomicIntegerArray label;
+        private final AtomicIntegerArray forward;
+        private final AtomicIntegerArray backward;
+        private final AtomicIntegerArray inDegree;
+        private final AtomicIntegerArray outDegree;
+        private final int[] slot; // index of a vertex within its partition during a serial pass
+        private final AtomicInteger colors = new AtomicInteger();
+        private final LongAdder visits = new LongAdder();
+        private final LongAdder traversals = new LongAdder();
+
+        Search(GraphView g) {
+            int n = g.getVertexCount();
+            this.out = g;
+            this.in = g.getTranspose();
+            this.color = new int[n];
+            int[] unset = new int[n];
+            Arrays.fill(unset, UNASSIGNED);
+            this.label = new AtomicIntegerArray(unset);
+            this.forward = new AtomicIntegerArray(unset);
+            this.backward = new AtomicIntegerArray(unset);
+            this.inDegree = new AtomicIntegerArray(n);
+            this.outDegree = new AtomicIntegerArray(n);
+            this.slot = new int[n];
+        }
+
+        /**
+         * Vertices of one color, all unassigned. Other tasks only ever recolor their own
+         * vertices to fresh colors, so a concurrent read of a foreign color never equals ours.
+         */
+        final class Partition extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final int c;
+            private final int[] vertices;
+
+            Partition(int c, int[] vertices) {
+                this.c = c;
+                this.vertices = vertices;
+            }
+
+            @Override
+            protected void compute() {
+                if (vertices.length < SERIAL_PARTITION) {
+                    tarjan();
+                    return;
+                }
+                IntStack pending = new IntStack();
+                int[] live = trim(pending);
+                if (live.length == 0) {
+                    return;
+                }
+
+                int pivot = live[live.length / 2];
+                reach(pivot, out, forward, pending);
+                reach(pivot, in, backward, pending);
+
+                int forwardColor = colors.getAndIncrement();
+                int backwardColor = colors.getAndIncrement();
+                int restColor = colors.getAndIncrement();
+                IntStream.Builder forwardOnly = IntStream.builder();
+                IntStream.Builder backwardOnly = IntStream.builder();
+                IntStream.Builder rest = IntStream.builder();
+                for (int v : live) {
+                    boolean f = forward.get(v) == c;
+                    boolean b = backward.get(v) == c;
+                    if (f && b) {
+                        label.set(v, pivot);
+                    } else if (f) {
+                        color[v] = forwardColor;
+                        forwardOnly.add(v);
+                    } else if (b) {
+                        color[v] = backwardColor;
+                        backwardOnly.add(v);
+                    } else {
+                        color[v] = restColor;
+                        rest.add(v);
+                    }
+                }
+
+                List<Partition> parts = new ArrayList<>(3);
+                addPart(parts, forwardColor, forwardOnly.build().toArray());
+                addPart(parts, backwardColor, backwardOnly.build().toArray());
+                addPart(parts, restColor, rest.build().toArray());
+                invokeAll(parts);
+            }
+
+            private void addPart(List<Partition> parts, int partColor, int[] partVertices) {
+                if (partVertices.length > 0) {
+                    parts.add(new Partition(partColor, partVertices));
+                }
+            }
+
+            /**
+             * Iterative Tarjan over the partition's vertices, ignoring arcs that leave it.
+             * Members of a finished component are labeled at once and so stop being live,
+             * exactly like the finished components Tarjan skips anyway.
+             */
+            private void tarjan() {
+                int k = vertices.length;
+                for (int i = 0; i < k; i++) {
+                    slot[vertices[i]] = i;
+                }
+                int[] disc = new int[k];
+                int[] low = new int[k];
+                int[] cursor = new int[k];
+                int[] stack = new int[k];
+                int[] callStack = new int[k];
+                Arrays.fill(disc, UNASSIGNED);
+                int stackSize = 0;
+                int time = 0;
+                long scanned = 0;
+
+                for (int root : vertices) {
+                    if (disc[slot[root]] != UNASSIGNED) {
+                        continue;
+                    }
+                    int depth = 0;
+                    callStack[depth++] = root;
+                    disc[slot[root]] = low[slot[root]] = time++;
+                    stack[stackSize++] = root;
+
+                    while (depth > 0) {
+                        int u = callStack[depth - 1];
+                        int su = slot[u];
+                        if (cursor[su] < out.getOutDegree(u)) {
+                            scanned++;
+                            int v = out.getNeighbor(u, cursor[su]++);
+                            if (!isLive(v)) {
+                                continue;
+                            }
+                            int sv = slot[v];
+                            if (disc[sv] == UNASSIGNED) {
+                                callStack[depth++] = v;
+                                disc[sv] = low[sv] = time++;
+                                stack[stackSize++] = v;
+                            } else {
+                                // Live and discovered means still on the stack
+                                low[su] = Math.min(low[su], disc[sv]);
+                            }
+                            continue;
+                        }
+
+                        depth--;
+                        if (low[su] == disc[su]) {
+                            int w;
+                            do {
+                                w = stack[--stackSize];
+                                label.set(w, u);
+                            } while (w != u);
+                        }
+                        if (depth > 0) {
+                            int parent = slot[callStack[depth - 1]];
+                            low[parent] = Math.min(low[parent], low[su]);
+                        }
+                    }
+                }
+                visits.add(k);
+                traversals.add(scanned);
+            }
+
+            private boolean isLive(int w) {
+                return color[w] == c && label.get(w) == UNASSIGNED;
+            }
+
+            /** Peels in/out-degree-zero vertices until none are left; returns the rest. */
+            private int[] trim(IntStack pending) {
+                IntStream stream = IntStream.of(vertices);
+                if (vertices.length >= PARALLEL_FRONTIER) {
+                    stream = stream.parallel();
+                }
+                stream.forEach(v -> {
+                    inDegree.set(v, liveDegree(v, in));
+                    outDegree.set(v, liveDegree(v, out));
+                });
+
+                for (int v : vertices) {
+                    if ((inDegree.get(v) == 0 || outDegree.get(v) == 0) && label.compareAndSet(v, UNASSIGNED, v)) {
+                        pending.accept(v);
+                    }
+                }
+                drain(pending, (v, next) -> {
+                    peel(v, out, inDegree, next);
+                    peel(v, in, outDegree, next);
+                });
+
+                return IntStream.of(vertices).filter(v -> label.get(v) == UNASSIGNED).toArray();
+            }
+
+            private int liveDegree(int v, GraphView direction) {
+                int degree = direction.getOutDegree(v);
+                int live = 0;
+                for (int i = 0; i < degree; i++) {
+                    int w = direction.getNeighbor(v, i);
+                    if (w != v && isLive(w)) {
+                        live++;
+                    }
+                }
+                traversals.add(degree);
+                return live;
+            }
+
+            /** A trimmed vertex no longer feeds its neighbors; claim those it leaves at zero. */
+            private void peel(int v, GraphView direction, AtomicIntegerArray counts, IntConsumer next) {
+                int degree = direction.getOutDegree(v);
+                for (int i = 0; i < degree; i++) {
+                    int w = direction.getNeighbor(v, i);
+                    if (w != v && isLive(w) && counts.decrementAndGet(w) == 0
+                            && label.compareAndSet(w, UNASSIGNED, w)) {
+                        next.accept(w);
+                    }
+                }
+                traversals.add(degree);
+            }
+
+            /** Reach of {@code pivot} within the partition, marking with this color. */
+            private void reach(int pivot, GraphView direction, AtomicIntegerArray mark, IntStack pending) {
+                mark.set(pivot, c);
+                pending.accept(pivot);
+                drain(pending, (u, next) -> {
+                    int degree = direction.getOutDegree(u);
+                    for (int i = 0; i < degree; i++) {
+                        int w = direction.getNeighbor(u, i);
+                        if (mark.get(w) != c && isLive(w) && mark.getAndSet(w, c) != c) {
+                            next.accept(w);
+                        }
+                    }
+                    traversals.add(degree);
+                });
+            }
+        }
+
+        /**
+         * Expands pending vertices, and those they yield, until none are left. Small
+         * frontiers are popped one at a time off the stack; once enough vertices are
+         * pending they are expanded together in parallel as one level.
+         */
+        private void drain(IntStack pending, Expander expander) {
+            int expanded = 0;
+            while (pending.size() > 0) {
+                if (pending.size() < PARALLEL_FRONTIER) {
+                    expanded++;
+                    expander.expand(pending.pop(), pending);
+                    continue;
+                }
+                int[] frontier = pending.drainToArray();
+                expanded += frontier.length;
+                int[] next = IntStream.of(frontier).parallel().flatMap(u -> {
+                    IntStream.Builder found = IntStream.builder();
+                    expander.expand(u, found);
+                    return found.build();
+                }).toArray();
+                for (int w : next) {
+                    pending.accept(w);
+                }
+            }
+            visits.add(expanded);
+        }
+    }
+
+    /** Growable stack of vertex ids, reused by one task across its searches. */
+    private static final class IntStack implements IntConsumer {
+        private int[] items = new int[16];
+        private int size;
+
+        @Override
+        public void accept(int v) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = v;
+        }
+
+        int pop() {
+            return items[--size];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] drainToArray() {
+            int[] drained = Arrays.copyOf(items, size);
+            size = 0;
+            return drained;
+        }
+    }
+}
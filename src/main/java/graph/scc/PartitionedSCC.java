@@ -0,0 +1,165 @@
+package graph.scc;
+
+import graph.core.CSRGraph;
+import graph.core.GraphView;
+import graph.metrics.Metrics;
+import graph.metrics.MetricsCollector;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Splits the graph into weakly connected components with a union-find pass, since no
+ * strongly connected component or condensation arc can span two of them. Small WCCs are
+ * packed together into chunks of at least {@link #CHUNK_VERTICES} vertices, and
+ * {@link TarjanSCC} runs on each chunk's subgraph concurrently. Component ids and
+ * condensation arcs are then stitched back in chunk order, so the result is the same
+ * for any pool size. A graph that forms a single chunk goes straight to Tarjan.
+ *
+ * <p>Edge traversals include the arcs scanned by the union-find pass.
+ */
+public class PartitionedSCC implements SCCAlgorithm {
+    static final int CHUNK_VERTICES = 1 << 14;
+
+    private final ForkJoinPool pool;
+
+    public PartitionedSCC() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public PartitionedSCC(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public SCCResult findSCCs(GraphView g, Metrics m) {
+        int n = g.getVertexCount();
+
+        m.startTimer();
+        DisjointSets wcc = new DisjointSets(n);
+        int traversals = 0;
+        for (int u = 0; u < n; u++) {
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                wcc.union(u, g.getNeighbor(u, i));
+            }
+            traversals += degree;
+        }
+        m.addEdgeTraversals(traversals);
+
+        // Pack WCCs into chunks in order of their smallest vertex
+        int[] chunkOfRoot = new int[n];
+        Arrays.fill(chunkOfRoot, -1);
+        int chunks = 0;
+        int openChunkSize = CHUNK_VERTICES;
+        int[] chunkOf = new int[n];
+        for (int v = 0; v < n; v++) {
+            int root = wcc.find(v);
+            if (chunkOfRoot[root] == -1) {
+                if (openChunkSize >= CHUNK_VERTICES) {
+                    chunks++;
+                    openChunkSize = 0;
+                }
+                chunkOfRoot[root] = chunks - 1;
+                openChunkSize += wcc.size(root);
+            }
+            chunkOf[v] = chunkOfRoot[root];
+        }
+
+        if (chunks <= 1) {
+            // Tarjan keeps the running timer, so the union-find pass stays measured
+            return new TarjanSCC(pool).findSCCs(g, m);
+        }
+        int chunkCount = chunks;
+
+        // Counting sort of vertices by chunk; local ids follow ascending global ids
+        int[] start = new int[chunkCount + 1];
+        for (int v = 0; v < n; v++) {
+            start[chunkOf[v] + 1]++;
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            start[c + 1] += start[c];
+        }
+        int[] members = new int[n];
+        int[] localId = new int[n];
+        int[] fill = Arrays.copyOf(start, chunkCount);
+        for (int v = 0; v < n; v++) {
+            int slot = fill[chunkOf[v]]++;
+            members[slot] = v;
+            localId[v] = slot - start[chunkOf[v]];
+        }
+
+        MetricsCollector[] chunkMetrics = new MetricsCollector[chunkCount];
+        SCCResult[] results = pool.submit(() -> IntStream.range(0, chunkCount).parallel().mapToObj(c -> {
+            CSRGraph sub = subgraph(g, members, start[c], start[c + 1], localId);
+            chunkMetrics[c] = new MetricsCollector();
+            return new TarjanSCC(pool).findSCCs(sub, chunkMetrics[c]);
+        }).toArray(SCCResult[]::new)).join();
+        m.stopTimer();
+
+        return stitch(g, members, start, results, chunkMetrics, m);
+    }
+
+    public SCCResult findSCCs(GraphView g) {
+        return findSCCs(g, new MetricsCollector());
+    }
+
+    private static CSRGraph subgraph(GraphView g, int[] members, int from, int to, int[] localId) {
+        long arcs = 0;
+        for (int s = from; s < to; s++) {
+            arcs += g.getOutDegree(members[s]);
+        }
+        // Arcs are copied one by one, so undirected inputs are rebuilt as directed arc sets
+        CSRGraph.Builder builder = new CSRGraph.Builder(to - from, true, g.getWeightModel(),
+                (int) Math.min(Integer.MAX_VALUE, arcs));
+        for (int s = from; s < to; s++) {
+            int u = members[s];
+            int degree = g.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                builder.addEdge(s - from, localId[g.getNeighbor(u, i)], g.getNeighborWeight(u, i));
+            }
+        }
+        return builder.build();
+    }
+
+    private static SCCResult stitch(GraphView g, int[] members, int[] start, SCCResult[] results,
+                                    MetricsCollector[] chunkMetrics, Metrics m) {
+        int total = 0;
+        for (SCCResult result : results) {
+            total += result.getComponentCount();
+        }
+
+        List<List<Integer>> components = new ArrayList<>(total);
+        int[] componentOf = new int[g.getVertexCount()];
+        CSRGraph.Builder condensation = new CSRGraph.Builder(total, true, g.getWeightModel());
+        int offset = 0;
+        for (int c = 0; c < results.length; c++) {
+            SCCResult result = results[c];
+            for (List<Integer> local : result.getComponents()) {
+                int id = components.size();
+                List<Integer> component = new ArrayList<>(local.size());
+                for (int x : local) {
+                    int v = members[start[c] + x];
+                    component.add(v);
+                    componentOf[v] = id;
+                }
+                components.add(component);
+            }
+
+            CSRGraph chunkCondensation = result.getCondensationCSR();
+            for (int a = 0; a < chunkCondensation.getVertexCount(); a++) {
+                int degree = chunkCondensation.getOutDegree(a);
+                for (int i = 0; i < degree; i++) {
+                    condensation.addEdge(offset + a, offset + chunkCondensation.getNeighbor(a, i),
+                            chunkCondensation.getNeighborWeight(a, i));
+                }
+            }
+            offset += result.getComponentCount();
+
+            m.addDFSVisits(chunkMetrics[c].getDFSVisits());
+            m.addEdgeTraversals(chunkMetrics[c].getEdgeTraversals());
+        }
+
+        return new SCCResult(components, componentOf, condensation.build());
+    }
+}
@@ -0,0 +1,28 @@
+package graph.scc;
+
+import graph.core.GraphView;
+import graph.metrics.Metrics;
+import java.util.concurrent.ForkJoinPool;
+
+/** Strongly connected component decomposition with a common {@link SCCResult} contract. */
+public interface SCCAlgorithm {
+    /** Arc count from which {@link #select} prefers the parallel engine. */
+    int PARALLEL_MIN_ARCS = 1 << 20;
+
+    /** Version of the components, condensation and metrics of every engine; bump on any change. */
+    int RESULT_VERSION = 2;
+
+    SCCResult findSCCs(GraphView g, Metrics m);
+
+    /**
+     * Picks Tarjan for graphs small enough that forking costs more than it saves, or when
+     * only one core is available, and {@link ParallelSCC} otherwise. The choice depends on
+     * arc count and parallelism only; {@link SCCBenchmark} measures engines on request.
+     */
+    static SCCAlgorithm select(GraphView g) {
+        if (g.getEdgeCount() >= PARALLEL_MIN_ARCS && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return new ParallelSCC();
+        }
+        return new TarjanSCC();
+    }
+}
@@ -0,0 +1,86 @@
+package graph.scc;
+
+import graph.core.GraphView;
+import graph.metrics.MetricsCollector;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Times SCC algorithms on a representative graph so the fastest can be picked per
+ * workload. Each candidate runs {@code rounds} times after one warm-up run, and is
+ * scored by its median wall-clock time including condensation building.
+ */
+public final class SCCBenchmark {
+    private SCCBenchmark() {
+    }
+
+    public static List<SCCAlgorithm> candidates() {
+        List<SCCAlgorithm> candidates = new ArrayList<>();
+        candidates.add(new TarjanSCC());
+        candidates.add(new GabowSCC());
+        candidates.add(new KosarajuSCC());
+        if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+            candidates.add(new ParallelSCC());
+            candidates.add(new PartitionedSCC());
+        }
+        return candidates;
+    }
+
+    /** Median nanoseconds per candidate, keyed by class name, in candidate order. */
+    public static Map<String, Long> measure(GraphView g, List<SCCAlgorithm> candidates, int rounds) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Rounds must be positive: " + rounds);
+        }
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (SCCAlgorithm algorithm : candidates) {
+            algorithm.findSCCs(g, new MetricsCollector());
+            long[] times = new long[rounds];
+            for (int r = 0; r < rounds; r++) {
+                long start = System.nanoTime();
+                algorithm.findSCCs(g, new MetricsCollector());
+                times[r] = System.nanoTime() - start;
+            }
+            Arrays.sort(times);
+            medians.put(algorithm.getClass().getSimpleName(), times[rounds / 2]);
+        }
+        return medians;
+    }
+
+    /** The candidate with the lowest median time on {@code g}; ties go to the earlier one. */
+    public static SCCAlgorithm fastest(GraphView g, List<SCCAlgorithm> candidates, int rounds) {
+        Map<String, Long> medians = measure(g, candidates, rounds);
+        SCCAlgorithm best = null;
+        long bestTime = Long.MAX_VALUE;
+        for (SCCAlgorithm algorithm : candidates) {
+            long time = medians.get(algorithm.getClass().getSimpleName());
+            if (time < bestTime) {
+                best = algorithm;
+                bestTime = time;
+            }
+        }
+        return best;
+    }
+
+    public static SCCAlgorithm fastest(GraphView g, int rounds) {
+        return fastest(g, candidates(), rounds);
+    }
+
+    /**
+     * Opt-in calibration: whether {@link ParallelSCC} beats {@link TarjanSCC} on every probe
+     * graph on this machine, by median time over {@code rounds}. {@link SCCAlgorithm#select}
+     * never calls it, so callers that want a measured choice pick the engine themselves.
+     */
+    public static boolean parallelPaysOff(List<? extends GraphView> probes, int rounds) {
+        if (ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            return false;
+        }
+        List<SCCAlgorithm> pair = List.of(new TarjanSCC(), new ParallelSCC());
+        for (GraphView probe : probes) {
+            Map<String, Long> medians = measure(probe, pair, rounds);
+            if (medians.get("ParallelSCC") >= medians.get("TarjanSCC")) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,18 +1,40 @@
 package graph.scc;
 
+import graph.core.CSRGraph;
 import graph.core.Graph;
+import graph.core.GraphNormalizer;
+import graph.core.GraphView;
+import graph.core.VertexOrdering;
 import java.util.*;
 
+/**
+ * Components, the component of each vertex and the condensation DAG. Membership is held
+ * in a primitive array and the condensation in CSR form; the boxed map and the
+ * adjacency-list {@link Graph} views are only built when asked for.
+ */
 public class SCCResult {
     private List<List<Integer>> components;
-    private Map<Integer, Integer> vertexToComponent;
-    private Graph condensationGraph;
+    private int[] componentOf;
+    private CSRGraph condensation;
+    private volatile Map<Integer, Integer> vertexToComponent;
+    private volatile Graph condensationGraph;
 
+    public SCCResult(List<List<Integer>> components, int[] componentOf, CSRGraph condensation) {
+        this.components = new ArrayList<>(components);
+        this.componentOf = componentOf;
+        this.condensation = condensation;
+    }
+
+    /** Vertices must be numbered {@code 0..n-1}, each mapped to its component. */
     public SCCResult(List<List<Integer>> components,
                      Map<Integer, Integer> vertexToComponent,
                      Graph condensationGraph) {
         this.components = new ArrayList<>(components);
-        this.vertexToComponent = new HashMap<>(vertexToComponent);
+        this.componentOf = new int[vertexToComponent.size()];
+        for (Map.Entry<Integer, Integer> entry : vertexToComponent.entrySet()) {
+            componentOf[entry.getKey()] = entry.getValue();
+        }
+        this.condensation = CSRGraph.fromGraph(condensationGraph);
         this.condensationGraph = condensationGraph;
     }
 
@@ -22,11 +44,45 @@ public class SCCResult {
     }
 
     public Map<Integer, Integer> getVertexToComponent() {
-        return Collections.unmodifiableMap(vertexToComponent);
+        Map<Integer, Integer> index = vertexToComponent;
+        if (index == null) {
+            Map<Integer, Integer> built = new HashMap<>();
+            for (int v = 0; v < componentOf.length; v++) {
+                built.put(v, componentOf[v]);
+            }
+            index = Collections.unmodifiableMap(built);
+            vertexToComponent = index;
+        }
+        return index;
+    }
+
+    public CSRGraph getCondensationCSR() {
+        return condensation;
     }
 
+    /** Adjacency-list copy of {@link #getCondensationCSR()}, built on first use. */
     public Graph getCondensationGraph() {
-        return condensationGraph;
+        Graph graph = condensationGraph;
+        if (graph == null) {
+            graph = new Graph(condensation.getVertexCount(), true, condensation.getWeightModel());
+            for (int c = 0; c < condensation.getVertexCount(); c++) {
+                int degree = condensation.getOutDegree(c);
+                for (int i = 0; i < degree; i++) {
+                    graph.addEdge(c, condensation.getNeighbor(c, i), condensation.getNeighborWeight(c, i));
+                }
+            }
+            condensationGraph = graph;
+        }
+        return graph;
+    }
+
+    /**
+     * Condenses {@code g}, which must have the vertices and arcs this result was computed on,
+     * combining the weights of parallel component arcs with {@code policy}. Path passes need
+     * this rather than {@link #getCondensationCSR()}, which keeps the first arc's weight.
+     */
+    public CSRGraph condense(GraphView g, GraphNormalizer.MergePolicy policy) {
+        return Condensation.merge(g, components.size(), componentOf, policy);
     }
 
     public int getComponentCount() {
@@ -42,7 +98,7 @@ public class SCCResult {
     }
 
     public int getComponentId(int vertex) {
-        return vertexToComponent.get(vertex);
+        return componentOf[vertex];
     }
 
     public List<Integer> getComponentVertices(int componentId) {
@@ -53,7 +109,23 @@ public class SCCResult {
     }
 
     public boolean areInSameComponent(int u, int v) {
-        return vertexToComponent.get(u).equals(vertexToComponent.get(v));
+        return componentOf[u] == componentOf[v];
+    }
+
+    /** Maps a result computed on a relabeled graph back to original vertex ids; component ids are kept. */
+    public SCCResult toOriginalIds(VertexOrdering ordering) {
+        List<List<Integer>> mapped = new ArrayList<>(components.size());
+        int[] mappedIndex = new int[componentOf.length];
+        for (int c = 0; c < components.size(); c++) {
+            List<Integer> component = new ArrayList<>(components.get(c).size());
+            for (int x : components.get(c)) {
+                int original = ordering.toOriginal(x);
+                component.add(original);
+                mappedIndex[original] = c;
+            }
+            mapped.add(component);
+        }
+        return new SCCResult(mapped, mappedIndex, condensation);
     }
 
     public String getStatistics() {
@@ -1,22 +1,42 @@
 package graph.scc;
 
-import graph.core.Graph;
-import graph.core.Edge;
+import graph.core.GraphView;
+import graph.core.NeighborCursor;
+import graph.core.ReorderedGraph;
 import graph.metrics.Metrics;
 import java.util.*;
-
-public class TarjanSCC {
-    private Graph graph;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tarjan's algorithm with an explicit call stack: {@code callStack} holds the DFS path and
+ * a {@link NeighborCursor} the next arc of each vertex to explore, so arbitrarily deep
+ * graphs run without recursion. Components are found in the same order as the recursive form.
+ */
+public class TarjanSCC implements SCCAlgorithm {
+    private final ForkJoinPool pool; // builds the condensation
+    private GraphView graph;
     private Metrics metrics;
     private int time;
     private int[] disc;
     private int[] low;
     private boolean[] onStack;
-    private Stack<Integer> stack;
+    private int[] stack; // vertices of the components still being built
+    private int stackSize;
+    private int[] callStack;
+    private NeighborCursor arcs;
     private List<List<Integer>> sccs;
-    private Map<Integer, Integer> vertexToComponent;
+    private int[] component;
+
+    public TarjanSCC() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TarjanSCC(ForkJoinPool pool) {
+        this.pool = pool;
+    }
 
-    public SCCResult findSCCs(Graph g, Metrics m) {
+    @Override
+    public SCCResult findSCCs(GraphView g, Metrics m) {
         this.graph = g;
         this.metrics = m;
         this.time = 0;
@@ -25,9 +45,12 @@ public class TarjanSCC {
         this.disc = new int[n];
         this.low = new int[n];
         this.onStack = new boolean[n];
-        this.stack = new Stack<>();
+        this.stack = new int[n];
+        this.stackSize = 0;
+        this.callStack = new int[n];
+        this.arcs = graph.neighborCursor();
         this.sccs = new ArrayList<>();
-        this.vertexToComponent = new HashMap<>();
+        this.component = new int[n];
 
         Arrays.fill(disc, -1); // -1 means undiscovered
 
@@ -41,76 +64,72 @@ public class TarjanSCC {
 
         metrics.stopTimer();
 
-        Graph condensationGraph = buildCondensationGraph();
-
-        return new SCCResult(sccs, vertexToComponent, condensationGraph);
+        return Condensation.toResult(graph, sccs, component, metrics, pool);
     }
 
-    private void dfs(int u) {
-        metrics.incrementDFSVisits();
+    private void dfs(int root) {
+        int depth = 0;
+        callStack[depth++] = root;
+        discover(root);
 
-        disc[u] = time;
-        low[u] = time;
-        time++;
-        stack.push(u);
-        onStack[u] = true;
+        while (depth > 0) {
+            int u = callStack[depth - 1];
 
-        for (Edge edge : graph.getNeighbors(u)) {
-            metrics.incrementEdgeTraversals();
-            int v = edge.getTo();
-
-            if (disc[v] == -1) {
-                // v is not visited
-                dfs(v);
-                low[u] = Math.min(low[u], low[v]);
-            } else if (onStack[v]) {
-                // v is in stack and hence in current SCC
-                low[u] = Math.min(low[u], disc[v]);
+            if (arcs.hasNext(u)) {
+                metrics.incrementEdgeTraversals();
+                int v = arcs.next(u);
+
+                if (disc[v] == -1) {
+                    // v is not visited: descend, as the recursive call would
+                    callStack[depth++] = v;
+                    discover(v);
+                } else if (onStack[v]) {
+                    // v is in stack and hence in current SCC
+                    low[u] = Math.min(low[u], disc[v]);
+                }
+                continue;
             }
-        }
 
-        if (low[u] == disc[u]) {
-            List<Integer> component = new ArrayList<>();
-            int w;
-            do {
-                w = stack.pop();
-                onStack[w] = false;
-                component.add(w);
-                vertexToComponent.put(w, sccs.size());
-            } while (w != u);
-            sccs.add(component);
+            // All arcs of u explored: return to the caller
+            depth--;
+            if (low[u] == disc[u]) {
+                popComponent(u);
+            }
+            if (depth > 0) {
+                int parent = callStack[depth - 1];
+                low[parent] = Math.min(low[parent], low[u]);
+            }
         }
     }
 
-    private Graph buildCondensationGraph() {
-        int componentCount = sccs.size();
-        Graph condensation = new Graph(componentCount, true, graph.getWeightModel());
-
-        Set<String> addedEdges = new HashSet<>();
-
-        for (int u = 0; u < graph.getVertexCount(); u++) {
-            int compU = vertexToComponent.get(u);
-
-            for (Edge edge : graph.getNeighbors(u)) {
-                metrics.incrementEdgeTraversals();
-                int v = edge.getTo();
-                int compV = vertexToComponent.get(v);
+    private void discover(int u) {
+        metrics.incrementDFSVisits();
 
-                if (compU != compV) {
-                    String edgeKey = compU + "->" + compV;
-                    if (!addedEdges.contains(edgeKey)) {
+        disc[u] = time;
+        low[u] = time;
+        time++;
+        stack[stackSize++] = u;
+        onStack[u] = true;
+    }
 
-                        condensation.addEdge(compU, compV, edge.getWeight());
-                        addedEdges.add(edgeKey);
-                    }
-                }
-            }
-        }
+    private void popComponent(int u) {
+        List<Integer> members = new ArrayList<>();
+        int w;
+        do {
+            w = stack[--stackSize];
+            onStack[w] = false;
+            members.add(w);
+            component[w] = sccs.size();
+        } while (w != u);
+        sccs.add(members);
+    }
 
-        return condensation;
+    /** Runs on the relabeled graph; components are reported with original vertex ids. */
+    public SCCResult findSCCs(ReorderedGraph g, Metrics m) {
+        return findSCCs(g.getGraph(), m).toOriginalIds(g.getOrdering());
     }
 
-    public SCCResult findSCCs(Graph g) {
+    public SCCResult findSCCs(GraphView g) {
         graph.metrics.MetricsCollector metrics = new graph.metrics.MetricsCollector();
         return findSCCs(g, metrics);
     }
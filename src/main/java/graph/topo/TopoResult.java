@@ -1,8 +1,8 @@
 package graph.topo;
 
 import graph.scc.SCCResult;
-import graph.core.Graph;
-import graph.core.Edge;
+import graph.core.GraphView;
+import graph.core.VertexOrdering;
 import java.util.*;
 
 public class TopoResult {
@@ -47,15 +47,16 @@ public class TopoResult {
         return -1;
     }
 
-    public boolean isValidOrder(Graph dag) {
+    public boolean isValidOrder(GraphView dag) {
         Map<Integer, Integer> positionMap = new HashMap<>();
         for (int i = 0; i < order.size(); i++) {
             positionMap.put(order.get(i), i);
         }
 
         for (int u = 0; u < dag.getVertexCount(); u++) {
-            for (Edge edge : dag.getNeighbors(u)) {
-                int v = edge.getTo();
+            int degree = dag.getOutDegree(u);
+            for (int i = 0; i < degree; i++) {
+                int v = dag.getNeighbor(u, i);
                 if (positionMap.get(u) >= positionMap.get(v)) {
                     return false; // u should come before v
                 }
@@ -65,6 +66,15 @@ public class TopoResult {
         return true;
     }
 
+    /** Maps an order over a relabeled graph's vertices back to original vertex ids. */
+    public TopoResult toOriginalIds(VertexOrdering ordering) {
+        List<Integer> mapped = new ArrayList<>(order.size());
+        for (int x : order) {
+            mapped.add(ordering.toOriginal(x));
+        }
+        return new TopoResult(mapped, isDAG);
+    }
+
     public String getStatistics() {
         return String.format(
                 "Topological Order Statistics:\n" +
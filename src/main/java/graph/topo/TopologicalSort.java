@@ -1,16 +1,20 @@
 package graph.topo;
 
-import graph.core.Graph;
-import graph.core.Edge;
+import graph.core.GraphView;
+import graph.core.NeighborCursor;
+import graph.core.ReorderedGraph;
 import graph.metrics.Metrics;
 import graph.scc.SCCResult;
 import java.util.*;
 
 public class TopologicalSort {
+    /** Version of the orders and metrics produced here; bump on any change. */
+    public static final int RESULT_VERSION = 2;
 
-    public TopoResult kahnSort(Graph dag, Metrics metrics) {
+    /** Arcs are read through {@link GraphView#forEachNeighbor}, which encoded views decode in one pass. */
+    public TopoResult kahnSort(GraphView dag, Metrics metrics) {
         if (metrics == null) {
-            metrics = new graph.metrics.MetricsCollector();
+            return kahnSort(dag, new graph.metrics.MetricsCollector());
         }
 
         metrics.startTimer();
@@ -19,11 +23,10 @@ public class TopologicalSort {
         int[] inDegree = new int[n];
 
         for (int u = 0; u < n; u++) {
-            for (Edge edge : dag.getNeighbors(u)) {
+            dag.forEachNeighbor(u, (v, weight) -> {
                 metrics.incrementEdgeTraversals();
-                int v = edge.getTo();
                 inDegree[v]++;
-            }
+            });
         }
 
         Queue<Integer> queue = new LinkedList<>();
@@ -44,16 +47,15 @@ public class TopologicalSort {
             topologicalOrder.add(u);
             visitedCount++;
 
-            for (Edge edge : dag.getNeighbors(u)) {
+            dag.forEachNeighbor(u, (v, weight) -> {
                 metrics.incrementEdgeTraversals();
-                int v = edge.getTo();
                 inDegree[v]--;
 
                 if (inDegree[v] == 0) {
                     queue.offer(v);
                     metrics.incrementQueueOperations();
                 }
-            }
+            });
         }
 
         metrics.stopTimer();
@@ -63,7 +65,12 @@ public class TopologicalSort {
         return new TopoResult(topologicalOrder, isDAG);
     }
 
-    public TopoResult dfsSort(Graph dag, Metrics metrics) {
+    /**
+     * DFS-based sort driven by an explicit stack and per-vertex arc cursors, so chains of
+     * any length sort without recursion. Metrics match the recursive form: one DFS visit
+     * per root and per explored arc.
+     */
+    public TopoResult dfsSort(GraphView dag, Metrics metrics) {
         if (metrics == null) {
             metrics = new graph.metrics.MetricsCollector();
         }
@@ -73,15 +80,44 @@ public class TopologicalSort {
         int n = dag.getVertexCount();
         boolean[] visited = new boolean[n];
         boolean[] inStack = new boolean[n];
+        int[] stack = new int[n];
+        NeighborCursor arcs = dag.neighborCursor();
         List<Integer> order = new ArrayList<>();
 
-        for (int u = 0; u < n; u++) {
-            if (!visited[u]) {
-                if (!dfsVisit(dag, u, visited, inStack, order, metrics)) {
-
-                    metrics.stopTimer();
-                    return new TopoResult(new ArrayList<>(), false);
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            metrics.incrementDFSVisits();
+            visited[root] = true;
+            inStack[root] = true;
+            int depth = 0;
+            stack[depth++] = root;
+
+            while (depth > 0) {
+                int u = stack[depth - 1];
+
+                if (arcs.hasNext(u)) {
+                    metrics.incrementEdgeTraversals();
+                    int v = arcs.next(u);
+                    metrics.incrementDFSVisits();
+
+                    if (inStack[v]) {
+                        // Back edge: the graph has a cycle
+                        metrics.stopTimer();
+                        return new TopoResult(new ArrayList<>(), false);
+                    }
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        inStack[v] = true;
+                        stack[depth++] = v;
+                    }
+                    continue;
                 }
+
+                depth--;
+                inStack[u] = false;
+                order.add(u);
             }
         }
 
@@ -91,39 +127,20 @@ public class TopologicalSort {
         return new TopoResult(order, true);
     }
 
-    private boolean dfsVisit(Graph dag, int u, boolean[] visited, boolean[] inStack,
-                             List<Integer> order, Metrics metrics) {
-        metrics.incrementDFSVisits();
-
-        if (inStack[u]) {
-            return false;
-        }
-
-        if (visited[u]) {
-            return true;
-        }
-
-        visited[u] = true;
-        inStack[u] = true;
-
-        for (Edge edge : dag.getNeighbors(u)) {
-            metrics.incrementEdgeTraversals();
-            int v = edge.getTo();
-            if (!dfsVisit(dag, v, visited, inStack, order, metrics)) {
-                return false;
-            }
-        }
+    /** Sorts the relabeled graph; the order is reported with original vertex ids. */
+    public TopoResult kahnSort(ReorderedGraph dag, Metrics metrics) {
+        return kahnSort(dag.getGraph(), metrics).toOriginalIds(dag.getOrdering());
+    }
 
-        inStack[u] = false;
-        order.add(u);
-        return true;
+    public TopoResult dfsSort(ReorderedGraph dag, Metrics metrics) {
+        return dfsSort(dag.getGraph(), metrics).toOriginalIds(dag.getOrdering());
     }
 
-    public TopoResult kahnSort(Graph dag) {
+    public TopoResult kahnSort(GraphView dag) {
         return kahnSort(dag, new graph.metrics.MetricsCollector());
     }
 
-    public TopoResult dfsSort(Graph dag) {
+    public TopoResult dfsSort(GraphView dag) {
         return dfsSort(dag, new graph.metrics.MetricsCollector());
     }
 }
\ No newline at end of file
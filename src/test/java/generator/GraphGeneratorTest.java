@@ -0,0 +1,149 @@
+package generator;
+
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.core.GraphLoader;
+import graph.core.GraphView;
+import graph.core.OffHeapGraph;
+import graph.scc.TarjanSCC;
+import graph.topo.TopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+public class GraphGeneratorTest {
+
+    private static Path tempFile(String suffix) throws IOException {
+        Path path = Files.createTempFile("graph-generator-test", suffix);
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    private static Graph materialize(RMatGenerator rmat) {
+        Graph graph = new Graph(rmat.getVertexCount(), rmat.isDirected(), rmat.getWeightModel());
+        rmat.emit(graph);
+        return graph;
+    }
+
+    private static void assertSameArcs(GraphView expected, GraphView actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        for (int u = 0; u < expected.getVertexCount(); u++) {
+            assertEquals(expected.getOutDegree(u), actual.getOutDegree(u), "Degree of " + u);
+            for (int i = 0; i < expected.getOutDegree(u); i++) {
+                assertEquals(expected.getNeighbor(u, i), actual.getNeighbor(u, i));
+                assertEquals(expected.getNeighborWeight(u, i), actual.getNeighborWeight(u, i));
+            }
+        }
+    }
+
+    @Test
+    public void testRMatStreamsMatchMaterializedGraph() throws IOException {
+        RMatGenerator rmat = new RMatGenerator(300, 5000, 7);
+        Graph expected = materialize(rmat);
+        assertEquals(5000, expected.getEdgeCount());
+
+        GraphGenerator generator = new GraphGenerator();
+        Path json = tempFile(".json");
+        generator.saveToJSON(rmat, json.toString(), 0);
+        assertSameArcs(expected, GraphLoader.loadFromJSON(json.toString()));
+
+        Path binary = tempFile(".bin");
+        generator.saveToBinary(rmat, binary.toString(), 0);
+        try (OffHeapGraph mapped = GraphLoader.loadFromBinary(binary.toString(), null)) {
+            assertSameArcs(expected, mapped);
+        }
+    }
+
+    @Test
+    public void testRMatDegreesAreSkewed() {
+        Graph graph = materialize(new RMatGenerator(1024, 20000, 11));
+        int maxDegree = 0;
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            maxDegree = Math.max(maxDegree, graph.getOutDegree(u));
+        }
+        // Uniform graphs would sit near the mean of about 20
+        assertTrue(maxDegree > 200, "Max out-degree " + maxDegree);
+    }
+
+    @Test
+    public void testUndirectedBinaryStream() throws IOException {
+        RMatGenerator rmat = new RMatGenerator(64, 400, 0.45, 0.2, 0.2, false, "edge", 3);
+        Path binary = tempFile(".bin");
+        new GraphGenerator().saveToBinary(rmat, binary.toString(), null);
+        try (OffHeapGraph mapped = GraphLoader.loadFromBinary(binary.toString(), null)) {
+            assertFalse(mapped.isDirected());
+            assertSameArcs(materialize(rmat), mapped);
+        }
+    }
+
+    @Test
+    public void testLayeredDagIsAcyclic() throws IOException {
+        LayeredDagGenerator dag = new LayeredDagGenerator(20, 50, 3, 7);
+        Path binary = tempFile(".bin");
+        new GraphGenerator().saveToBinary(dag, binary.toString(), 0);
+        try (OffHeapGraph mapped = GraphLoader.loadFromBinary(binary.toString(), null)) {
+            CSRGraph graph = mapped.toCSR();
+            assertEquals(1000, graph.getVertexCount());
+            assertEquals(dag.getEdgeCount(), (long) graph.getEdgeCount());
+            assertTrue(new TopologicalSort().kahnSort(graph).isDAG());
+        }
+    }
+
+    @Test
+    public void testParallelGenerationIgnoresThreadCount() {
+        RMatGenerator rmat = new RMatGenerator(5000, 200_000, 21);
+        Graph serial = materialize(rmat);
+        LayeredDagGenerator dag = new LayeredDagGenerator(10, 1000, 4, 5);
+        Graph dagSerial = new Graph(dag.getVertexCount(), true, dag.getWeightModel());
+        dag.emit(dagSerial);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        ForkJoinPool odd = new ForkJoinPool(3);
+        try {
+            assertSameArcs(serial, rmat.generate(single));
+            assertSameArcs(serial, rmat.generate(several));
+            assertSameArcs(dagSerial, dag.generate(odd));
+        } finally {
+            single.shutdown();
+            several.shutdown();
+            odd.shutdown();
+        }
+    }
+
+    @Test
+    public void testWorkloadShapes() throws IOException {
+        GraphGenerator generator = new GraphGenerator(9);
+        int n = 200_000;
+
+        CSRGraph chain = generator.generateWorkload(WorkloadProfile.DEEP_CHAIN, n);
+        assertEquals(n - 1, chain.getEdgeCount());
+        assertEquals(n, new TarjanSCC().findSCCs(chain).getComponentCount());
+
+        CSRGraph giant = generator.generateWorkload(WorkloadProfile.GIANT_SCC, n);
+        assertEquals(1, new TarjanSCC().findSCCs(giant).getComponentCount());
+
+        CSRGraph singletons = generator.generateWorkload(WorkloadProfile.SINGLETON_SCCS, n);
+        assertEquals(n, new TarjanSCC().findSCCs(singletons).getComponentCount());
+
+        CSRGraph wide = generator.generateWorkload(WorkloadProfile.WIDE_LAYERS, n);
+        assertTrue(new TopologicalSort().kahnSort(wide).isDAG());
+        assertEquals(0, wide.getOutDegree(n - 1));
+
+        CSRGraph hubs = generator.generateWorkload(WorkloadProfile.HUB_FANOUT, n);
+        assertEquals(n - WorkloadGenerator.HUB_COUNT, hubs.getOutDegree(0));
+        assertTrue(new TopologicalSort().kahnSort(hubs).isDAG());
+
+        // Streaming to disk gives the same graph as generating in memory
+        Path binary = tempFile(".bin");
+        generator.saveWorkload(WorkloadProfile.GIANT_SCC, n, binary.toString());
+        try (OffHeapGraph mapped = GraphLoader.loadFromBinary(binary.toString(), null)) {
+            assertSameArcs(giant, mapped);
+        }
+    }
+}
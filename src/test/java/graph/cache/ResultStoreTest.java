@@ -0,0 +1,98 @@
+package graph.cache;
+
+import graph.core.Graph;
+import graph.dagsp.DAGLongestPath;
+import graph.dagsp.PathResult;
+import graph.scc.SCCResult;
+import graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ResultStoreTest {
+
+    private static Graph cyclicGraph() {
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 4);
+        graph.addEdge(3, 4, 5);
+        return graph;
+    }
+
+    @Test
+    public void testFingerprintIgnoresRepresentation() {
+        Graph graph = cyclicGraph();
+        assertEquals(GraphFingerprint.of(graph), GraphFingerprint.of(graph.toCSR()));
+
+        Graph extended = cyclicGraph();
+        extended.addEdge(4, 0, 1);
+        assertNotEquals(GraphFingerprint.of(graph), GraphFingerprint.of(extended));
+    }
+
+    @Test
+    public void testSCCReusedAcrossStores() throws IOException {
+        Path dir = Files.createTempDirectory("result-store-test");
+        Graph graph = cyclicGraph();
+        long key = GraphFingerprint.of(graph);
+
+        ResultStore.Entry<SCCResult> first = new ResultStore(dir.toString()).memoize("scc", 1, key, "",
+                ResultCodecs.SCC, m -> new TarjanSCC().findSCCs(graph, m));
+        assertFalse(first.isCached());
+
+        ResultStore.Entry<SCCResult> second = new ResultStore(dir.toString()).memoize("scc", 1, key, "",
+                ResultCodecs.SCC, m -> fail("Stored result should be reused"));
+        assertTrue(second.isCached());
+        assertEquals(first.getResult().getComponents(), second.getResult().getComponents());
+        assertEquals(first.getMetrics().getEdgeTraversals(), second.getMetrics().getEdgeTraversals());
+        assertEquals(first.getMetrics().getExecutionTimeNanos(), second.getMetrics().getExecutionTimeNanos());
+
+        Graph expected = first.getResult().getCondensationGraph();
+        Graph actual = second.getResult().getCondensationGraph();
+        assertEquals(GraphFingerprint.of(expected), GraphFingerprint.of(actual));
+        assertTrue(second.getResult().areInSameComponent(0, 2));
+    }
+
+    @Test
+    public void testNewStageVersionRecomputes() throws IOException {
+        Path dir = Files.createTempDirectory("result-store-test");
+        ResultStore store = new ResultStore(dir.toString());
+        Graph graph = cyclicGraph();
+        long key = GraphFingerprint.of(graph);
+
+        store.memoize("scc", 1, key, "", ResultCodecs.SCC, m -> new TarjanSCC().findSCCs(graph, m));
+        ResultStore.Entry<SCCResult> upgraded = store.memoize("scc", 2, key, "", ResultCodecs.SCC,
+                m -> new TarjanSCC().findSCCs(graph, m));
+        assertFalse(upgraded.isCached(), "A result of older code must not be replayed");
+        assertTrue(store.memoize("scc", 2, key, "", ResultCodecs.SCC,
+                m -> fail("Stored result should be reused")).isCached());
+    }
+
+    @Test
+    public void testChangedParametersRecompute() throws IOException {
+        Path dir = Files.createTempDirectory("result-store-test");
+        ResultStore store = new ResultStore(dir.toString());
+        Graph dag = new Graph(4, true, "edge");
+        dag.addEdge(0, 1, 2);
+        dag.addEdge(1, 2, 3);
+        dag.addEdge(0, 3, 1);
+        long key = GraphFingerprint.of(dag);
+
+        PathResult fromZero = store.memoize("longest", 1, key, "source=0", ResultCodecs.PATH,
+                m -> new DAGLongestPath().findLongestPaths(dag, 0, m)).getResult();
+        ResultStore.Entry<PathResult> fromOne = store.memoize("longest", 1, key, "source=1", ResultCodecs.PATH,
+                m -> new DAGLongestPath().findLongestPaths(dag, 1, m));
+        assertFalse(fromOne.isCached());
+
+        ResultStore.Entry<PathResult> again = store.memoize("longest", 1, key, "source=0", ResultCodecs.PATH,
+                m -> fail("Stored result should be reused"));
+        assertTrue(again.isCached());
+        assertArrayEquals(fromZero.getDistances(), again.getResult().getDistances());
+        assertEquals(fromZero.getCriticalPath(), again.getResult().getCriticalPath());
+        assertEquals(fromZero.getCriticalPathLength(), again.getResult().getCriticalPathLength());
+    }
+}
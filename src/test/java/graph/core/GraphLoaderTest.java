@@ -0,0 +1,260 @@
+package graph.core;
+
+import generator.GraphGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class GraphLoaderTest {
+
+    private static Graph sampleGraph() {
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 7);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 4);
+        graph.addEdge(3, 1, 2);
+        graph.addEdge(4, 4, 9);
+        return graph;
+    }
+
+    private static Path tempFile(String suffix) throws IOException {
+        Path path = Files.createTempFile("graph-loader-test", suffix);
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    private static void assertSameArcs(GraphView expected, GraphView actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertEquals(expected.isDirected(), actual.isDirected());
+        assertEquals(expected.getWeightModel(), actual.getWeightModel());
+        for (int u = 0; u < expected.getVertexCount(); u++) {
+            assertEquals(expected.getOutDegree(u), actual.getOutDegree(u), "Degree of " + u);
+            for (int i = 0; i < expected.getOutDegree(u); i++) {
+                assertEquals(expected.getNeighbor(u, i), actual.getNeighbor(u, i));
+                assertEquals(expected.getNeighborWeight(u, i), actual.getNeighborWeight(u, i));
+            }
+        }
+    }
+
+    @Test
+    public void testJSONRoundTrip() throws IOException {
+        Graph graph = sampleGraph();
+        Path path = tempFile(".json");
+        new GraphGenerator().saveToJSON(graph, path.toString(), 3);
+
+        int[] source = new int[1];
+        Graph loaded = GraphLoader.loadFromJSON(path.toString(), source);
+
+        assertEquals(3, source[0]);
+        assertSameArcs(graph, loaded);
+    }
+
+    @Test
+    public void testStreamingEdgesBeforeHeader() throws IOException {
+        String json = "{\"edges\": [{\"w\": 5, \"v\": 1, \"u\": 0}, {\"u\": 1, \"v\": 2, \"w\": 6}],"
+                + " \"weight_model\": \"edge\", \"n\": 3, \"directed\": true}";
+
+        Graph graph = GraphLoader.loadFromJSON(new StringReader(json), null);
+
+        assertEquals(3, graph.getVertexCount());
+        assertEquals(2, graph.getEdgeCount());
+        assertEquals(1, graph.getNeighbor(0, 0));
+        assertEquals(5, graph.getNeighborWeight(0, 0));
+        assertEquals("edge", graph.getWeightModel());
+    }
+
+    @Test
+    public void testStreamingRejectsIncompleteEdge() {
+        String json = "{\"n\": 2, \"directed\": true, \"weight_model\": \"edge\", \"edges\": [{\"u\": 0, \"v\": 1}]}";
+
+        assertThrows(IOException.class, () -> GraphLoader.loadFromJSON(new StringReader(json), null));
+    }
+
+    @Test
+    public void testParallelLoadMatchesStreaming() throws IOException {
+        Random random = new Random(7);
+        Graph graph = new Graph(2000, true, "edge");
+        for (int i = 0; i < 60000; i++) {
+            graph.addEdge(random.nextInt(2000), random.nextInt(2000), random.nextInt(10) + 1);
+        }
+        Path path = tempFile(".json");
+        new GraphGenerator().saveToJSON(graph, path.toString(), 0);
+        assertTrue(Files.size(path) > 2 << 20, "File should span several parse chunks");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            CSRGraph parallel = GraphLoader.loadFromJSONParallel(path.toString(), null, pool);
+            assertSameArcs(GraphLoader.loadFromJSON(path.toString()), parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelLoadRejectsIntOverflow() throws IOException {
+        Path path = tempFile(".json");
+        Files.writeString(path, "{\"n\": 2, \"directed\": true, \"weight_model\": \"edge\", \"edges\": ["
+                + "{\"u\": 0, \"v\": 1, \"w\": -2147483648}]}");
+        assertEquals(Integer.MIN_VALUE, GraphLoader.loadFromJSONParallel(path.toString(), null).getNeighborWeight(0, 0));
+
+        // One past Integer.MAX_VALUE is only representable when negative
+        Files.writeString(path, "{\"n\": 2, \"directed\": true, \"weight_model\": \"edge\", \"edges\": ["
+                + "{\"u\": 0, \"v\": 1, \"w\": 2147483648}]}");
+        assertThrows(IOException.class, () -> GraphLoader.loadFromJSONParallel(path.toString(), null));
+    }
+
+    @Test
+    public void testEdgeList() throws IOException {
+        Path path = tempFile(".txt");
+        Files.writeString(path, "# FromNodeId\tToNodeId\n"
+                + "0\t1\t3\n"
+                + "0 2 7\r\n"
+                + "% comment\n"
+                + "\n"
+                + "1 2\n"
+                + "2\t3\t4\n"
+                + "3 1 2\n"
+                + "4 4 9");
+
+        CSRGraph graph = GraphLoader.loadFromEdgeList(path.toString(), true);
+
+        assertEquals(5, graph.getVertexCount());
+        assertEquals(6, graph.getEdgeCount());
+        assertEquals(2, graph.getOutDegree(0));
+        assertEquals(2, graph.getNeighbor(0, 1));
+        assertEquals(7, graph.getNeighborWeight(0, 1));
+        assertEquals(1, graph.getNeighborWeight(1, 0), "Missing weight defaults to 1");
+        assertEquals(9, graph.getNeighborWeight(4, 0));
+    }
+
+    @Test
+    public void testEdgeListRejectsIntOverflow() throws IOException {
+        Path path = tempFile(".txt");
+        Files.writeString(path, "0 1 -2147483648\n");
+        assertEquals(Integer.MIN_VALUE, GraphLoader.loadFromEdgeList(path.toString(), true).getNeighborWeight(0, 0));
+
+        Files.writeString(path, "0 1 2147483648\n");
+        assertThrows(IOException.class, () -> GraphLoader.loadFromEdgeList(path.toString(), true));
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        Graph graph = sampleGraph();
+        Path path = tempFile(".bin");
+        new GraphGenerator().saveToBinary(graph, path.toString(), 2);
+
+        int[] source = new int[1];
+        try (OffHeapGraph mapped = GraphLoader.loadFromBinary(path.toString(), source)) {
+            assertEquals(2, source[0]);
+            assertSameArcs(graph, mapped);
+
+            // The in-edge index is built in the mapping's arena and lists sources in order
+            GraphView transpose = mapped.getTranspose();
+            assertTrue(transpose instanceof OffHeapGraph);
+            assertSame(transpose, mapped.getTranspose());
+            assertSame(mapped, transpose.getTranspose());
+            assertSameArcs(CSRGraph.transposeOf(graph), transpose);
+            ((OffHeapGraph) transpose).close();
+            assertTrue(mapped.isOpen());
+        }
+    }
+
+    @Test
+    public void testBinaryRejectsForeignFile() throws IOException {
+        Path path = tempFile(".json");
+        Files.writeString(path, "{\"n\": 1, \"directed\": true, \"edges\": []}");
+
+        assertThrows(IOException.class, () -> GraphLoader.loadFromBinary(path.toString(), null));
+    }
+
+    @Test
+    public void testBinaryRejectsCorruptStructure() throws IOException {
+        Path path = tempFile(".bin");
+        new GraphGenerator().saveToBinary(sampleGraph(), path.toString(), 0);
+        byte[] valid = Files.readAllBytes(path);
+        int targetsAt = (GraphBinaryFormat.FIXED_HEADER_INTS + 1 + 6) * Integer.BYTES; // header, "edge", offsets[6]
+
+        // A target outside [0, n): only the opt-in full scan reads the arcs while mapping
+        byte[] badTarget = valid.clone();
+        badTarget[targetsAt] = 9;
+        Files.write(path, badTarget);
+        GraphLoader.loadFromBinary(path.toString(), null).close();
+        assertThrows(IOException.class, () -> GraphLoader.loadFromBinary(path.toString(), null, true));
+
+        // A weight model length pointing past the end of the file
+        byte[] badLength = valid.clone();
+        badLength[6 * Integer.BYTES + 3] = 0x7f;
+        Files.write(path, badLength);
+        assertThrows(IOException.class, () -> GraphLoader.loadFromBinary(path.toString(), null));
+    }
+
+    @Test
+    public void testBinaryWriteRejectsUnstableSource() throws IOException {
+        // Emits one more arc on every replay, so pass 2 overruns the slots pass 1 counted
+        EdgeSource growing = new EdgeSource() {
+            private int replays;
+
+            @Override
+            public int getVertexCount() {
+                return 3;
+            }
+
+            @Override
+            public boolean isDirected() {
+                return true;
+            }
+
+            @Override
+            public String getWeightModel() {
+                return "edge";
+            }
+
+            @Override
+            public void emit(EdgeSink sink) {
+                replays++;
+                for (int i = 0; i < replays; i++) {
+                    sink.addEdge(0, 1, 1);
+                }
+            }
+        };
+
+        Path path = tempFile(".bin");
+        IOException error = assertThrows(IOException.class, () -> GraphBinaryFormat.write(growing, null, path));
+        assertTrue(error.getMessage().startsWith("Edge source did not replay the same edges"));
+    }
+
+    @Test
+    public void testSnapshotCache() throws IOException {
+        Graph graph = sampleGraph();
+        Path path = tempFile(".json");
+        new GraphGenerator().saveToJSON(graph, path.toString(), 0);
+        Path snapshot = GraphSnapshotCache.snapshotPath(path);
+        snapshot.toFile().deleteOnExit();
+
+        int[] source = new int[1];
+        assertSameArcs(graph, GraphLoader.loadFromJSONCached(path.toString(), source));
+        assertTrue(Files.exists(snapshot));
+
+        source[0] = -1;
+        assertSameArcs(graph, GraphLoader.loadFromJSONCached(path.toString(), source));
+        assertEquals(0, source[0]);
+
+        // Same size and modification time, different content: only the hash catches it
+        FileTime modified = Files.getLastModifiedTime(path);
+        String json = Files.readString(path);
+        Files.writeString(path, json.replace("\"w\": 3", "\"w\": 5"));
+        Files.setLastModifiedTime(path, modified);
+
+        CSRGraph reloaded = GraphLoader.loadFromJSONCached(path.toString(), source);
+        assertEquals(5, reloaded.getNeighborWeight(0, 0));
+    }
+}
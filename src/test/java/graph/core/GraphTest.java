@@ -0,0 +1,228 @@
+package graph.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class GraphTest {
+
+    private static Graph sampleGraph() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(2, 1, 3);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(0, 3, 7);
+        return graph;
+    }
+
+    @Test
+    public void testTransposeInEdges() {
+        Graph graph = sampleGraph();
+        GraphView transpose = graph.getTranspose();
+
+        assertEquals(4, transpose.getEdgeCount());
+        assertEquals(0, transpose.getOutDegree(0));
+        assertEquals(2, transpose.getOutDegree(1));
+        assertEquals(0, transpose.getNeighbor(1, 0), "In-arcs are ordered by source");
+        assertEquals(5, transpose.getNeighborWeight(1, 0));
+        assertEquals(2, transpose.getNeighbor(1, 1));
+        assertEquals(3, transpose.getNeighborWeight(1, 1));
+        assertEquals(2, transpose.getOutDegree(3));
+    }
+
+    @Test
+    public void testTransposeIsCachedUntilMutation() {
+        Graph graph = sampleGraph();
+        GraphView first = graph.getTranspose();
+        assertSame(first, graph.getTranspose());
+
+        graph.addEdge(3, 2, 1);
+        GraphView second = graph.getTranspose();
+        assertNotSame(first, second);
+        assertEquals(1, second.getOutDegree(2));
+    }
+
+    @Test
+    public void testCSRTransposeRoundTrip() {
+        CSRGraph csr = sampleGraph().toCSR();
+        CSRGraph transpose = csr.getTranspose();
+
+        assertSame(transpose, csr.getTranspose());
+        assertSame(csr, transpose.getTranspose());
+    }
+
+    @Test
+    public void testLongHashSetEdgeIndex() {
+        LongHashSet set = new LongHashSet(2);
+        assertTrue(set.add(LongHashSet.pack(0, 0)));
+        assertFalse(set.add(LongHashSet.pack(0, 0)));
+        for (int u = 0; u < 100; u++) {
+            for (int v = 0; v < 100; v += 3) {
+                set.add(LongHashSet.pack(u, v));
+            }
+        }
+
+        assertEquals(100 * 34, set.size());
+        assertTrue(set.contains(LongHashSet.pack(99, 99)));
+        assertFalse(set.contains(LongHashSet.pack(99, 98)));
+        assertTrue(set.contains(LongHashSet.pack(1, 0)));
+        assertFalse(set.contains(LongHashSet.pack(0, 1)), "Packing must keep (u, v) ordered");
+
+        // Removing every other key keeps the rest reachable through their probe runs
+        for (int u = 0; u < 100; u += 2) {
+            for (int v = 0; v < 100; v += 3) {
+                assertTrue(set.remove(LongHashSet.pack(u, v)));
+            }
+        }
+        assertFalse(set.remove(LongHashSet.pack(0, 0)));
+        assertEquals(50 * 34, set.size());
+        for (int u = 0; u < 100; u++) {
+            for (int v = 0; v < 100; v += 3) {
+                assertEquals(u % 2 == 1, set.contains(LongHashSet.pack(u, v)), u + " -> " + v);
+            }
+        }
+    }
+
+    @Test
+    public void testOrderingsArePermutations() {
+        Graph graph = sampleGraph();
+        VertexOrdering[] orderings = {
+                VertexOrdering.breadthFirst(graph),
+                VertexOrdering.reverseCuthillMcKee(graph),
+                VertexOrdering.topological(graph)
+        };
+
+        for (VertexOrdering ordering : orderings) {
+            assertEquals(4, ordering.size());
+            for (int v = 0; v < 4; v++) {
+                assertEquals(v, ordering.toOriginal(ordering.toRelabeled(v)));
+            }
+
+            CSRGraph relabeled = ordering.apply(graph).getGraph();
+            assertEquals(graph.getEdgeCount(), relabeled.getEdgeCount());
+            int x = ordering.toRelabeled(0);
+            assertEquals(2, relabeled.getOutDegree(x));
+            assertEquals(ordering.toRelabeled(1), relabeled.getNeighbor(x, 0));
+            assertEquals(7, relabeled.getNeighborWeight(x, 1));
+        }
+
+        VertexOrdering topological = orderings[2];
+        assertTrue(topological.toRelabeled(2) < topological.toRelabeled(1));
+        assertTrue(topological.toRelabeled(1) < topological.toRelabeled(3));
+    }
+
+    @Test
+    public void testCompressedGraphDecodesSortedArcs() {
+        Random random = new Random(11);
+        Graph graph = new Graph(300, true);
+        for (int i = 0; i < 5000; i++) {
+            int u = i < 200 ? 7 : random.nextInt(300); // one vertex spans many blocks
+            graph.addEdge(u, random.nextInt(300), random.nextInt(21) - 10);
+        }
+
+        CompressedGraph compressed = CompressedGraph.fromGraph(graph);
+        assertEquals(graph.getEdgeCount(), compressed.getEdgeCount());
+        assertTrue(compressed.getEncodedBytes() < 8L * graph.getEdgeCount());
+
+        for (int u = 0; u < 300; u++) {
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < graph.getOutDegree(u); i++) {
+                expected.add(((long) graph.getNeighbor(u, i) << 32) | (graph.getNeighborWeight(u, i) & 0xFFFFFFFFL));
+            }
+            Collections.sort(expected);
+
+            List<Long> indexed = new ArrayList<>();
+            for (int i = 0; i < compressed.getOutDegree(u); i++) {
+                indexed.add(((long) compressed.getNeighbor(u, i) << 32)
+                        | (compressed.getNeighborWeight(u, i) & 0xFFFFFFFFL));
+            }
+            List<Long> streamed = new ArrayList<>();
+            compressed.forEachNeighbor(u, (v, w) -> streamed.add(((long) v << 32) | (w & 0xFFFFFFFFL)));
+
+            assertEquals(expected, indexed, "Indexed decode of " + u);
+            assertEquals(expected, streamed, "Streaming decode of " + u);
+        }
+
+        // A cursor resumes each list where it stopped, with reads interleaved across vertices
+        NeighborCursor cursor = compressed.neighborCursor();
+        int[] read = new int[300];
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int u = 0; u < 300; u++) {
+                if (cursor.hasNext(u)) {
+                    assertEquals(compressed.getNeighbor(u, read[u]++), cursor.next(u), "Cursor on " + u);
+                    progress = true;
+                }
+            }
+        }
+        for (int u = 0; u < 300; u++) {
+            assertEquals(compressed.getOutDegree(u), read[u]);
+        }
+    }
+
+    @Test
+    public void testConcurrentBuilder() throws InterruptedException {
+        ConcurrentGraphBuilder builder = new ConcurrentGraphBuilder(100, true);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 8; t++) {
+            int producer = t;
+            producers.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    builder.addEdge(i % 100, (i + producer) % 100, producer + 1);
+                }
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+        CSRGraph graph = builder.build();
+
+        assertEquals(8000, graph.getEdgeCount());
+        long weightSum = 0;
+        for (int u = 0; u < 100; u++) {
+            assertEquals(80, graph.getOutDegree(u));
+            for (int i = 0; i < graph.getOutDegree(u); i++) {
+                int w = graph.getNeighborWeight(u, i);
+                assertEquals((u + w - 1) % 100, graph.getNeighbor(u, i));
+                weightSum += w;
+            }
+        }
+        assertEquals(1000L * (1 + 2 + 3 + 4 + 5 + 6 + 7 + 8), weightSum);
+        assertThrows(IllegalStateException.class, () -> builder.addEdge(0, 1, 1));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void testNormalizerMergesParallelArcsAndDropsLoops() {
+        Graph graph = new Graph(3, true);
+        graph.addEdge(0, 0, 4);
+        graph.addEdge(0, 2, 6);
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(0, 2, -2);
+        graph.addEdge(0, 2, 9);
+        graph.addEdge(2, 2, 1);
+        graph.addEdge(1, 2, 3);
+
+        CSRGraph min = GraphNormalizer.normalize(graph, GraphNormalizer.MergePolicy.MIN);
+        CSRGraph max = GraphNormalizer.normalize(graph, GraphNormalizer.MergePolicy.MAX);
+        CSRGraph sum = GraphNormalizer.normalize(graph, GraphNormalizer.MergePolicy.SUM);
+
+        assertEquals(3, min.getEdgeCount());
+        assertEquals(2, min.getOutDegree(0));
+        assertEquals(0, min.getOutDegree(2), "Self-loops are removed");
+        assertEquals(1, min.getNeighbor(0, 0));
+        assertEquals(2, min.getNeighbor(0, 1));
+        assertEquals(-2, min.getNeighborWeight(0, 1));
+        assertEquals(9, max.getNeighborWeight(0, 1));
+        assertEquals(13, sum.getNeighborWeight(0, 1));
+        assertEquals(3, max.getNeighborWeight(1, 0));
+    }
+}
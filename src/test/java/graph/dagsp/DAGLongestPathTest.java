@@ -1,6 +1,7 @@
 package graph.dagsp;
 
 import graph.core.Graph;
+import graph.core.OffHeapGraph;
 import graph.metrics.MetricsCollector;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -147,4 +148,32 @@ public class DAGLongestPathTest {
 
         assertEquals(14, result.getCriticalPathLength());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testOffHeapGraph() {
+        OffHeapGraph graph;
+        try (OffHeapGraph.Builder builder = new OffHeapGraph.Builder(6, true, "edge")) {
+            builder.addEdge(0, 1, 3)
+                    .addEdge(0, 2, 2)
+                    .addEdge(1, 3, 4)
+                    .addEdge(2, 3, 1)
+                    .addEdge(3, 4, 2)
+                    .addEdge(3, 5, 3)
+                    .addEdge(4, 5, 1);
+            graph = builder.build();
+        }
+
+        try (graph) {
+            assertEquals(7, graph.getEdgeCount());
+
+            DAGLongestPath longestPath = new DAGLongestPath();
+            PathResult result = longestPath.findLongestPaths(graph, 0);
+
+            assertEquals(10, result.getCriticalPathLength());
+            assertEquals(4, result.getCriticalPath().size());
+        }
+
+        assertFalse(graph.isOpen());
+        assertThrows(IllegalStateException.class, () -> graph.getOutDegree(0));
+    }
+}
@@ -1,6 +1,8 @@
 package graph.dagsp;
 
+import graph.core.CSRGraph;
 import graph.core.Graph;
+import graph.core.VertexOrdering;
 import graph.metrics.MetricsCollector;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -125,4 +127,45 @@ public class DAGShortestPathTest {
         assertEquals(0, path.get(0), "Path should start from source");
         assertEquals(3, path.get(2), "Path should end at target");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCSRBuilderGraph() {
+        CSRGraph graph = new CSRGraph.Builder(4, true)
+                .addEdge(0, 1, 5)
+                .addEdge(0, 2, 3)
+                .addEdge(1, 3, 2)
+                .addEdge(2, 3, 1)
+                .build();
+
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(2, graph.getOutDegree(0));
+
+        DAGShortestPath shortestPath = new DAGShortestPath();
+        PathResult result = shortestPath.findShortestPaths(graph, 0);
+
+        assertEquals(5, result.getDistance(1));
+        assertEquals(3, result.getDistance(2));
+        assertEquals(4, result.getDistance(3));
+    }
+
+    @Test
+    public void testReorderedGraphReportsOriginalIds() {
+        Graph graph = new Graph(5, true);
+        graph.addEdge(4, 2, 2);
+        graph.addEdge(2, 0, 3);
+        graph.addEdge(4, 1, 1);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(3, 0, 1);
+
+        DAGShortestPath shortestPath = new DAGShortestPath();
+        PathResult expected = shortestPath.findShortestPaths(graph, 4);
+        PathResult actual = shortestPath.findShortestPaths(
+                VertexOrdering.topological(graph).apply(graph), 4, new MetricsCollector());
+
+        assertEquals(4, actual.getSource());
+        for (int v = 0; v < 5; v++) {
+            assertEquals(expected.getDistance(v), actual.getDistance(v));
+            assertEquals(expected.getPath(v), actual.getPath(v));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package graph.scc;
+
+import generator.RMatGenerator;
+import graph.core.Edge;
+import graph.core.Graph;
+import graph.metrics.MetricsCollector;
+import org.junit.jupiter.api.Test;
+import static graph.scc.SCCAssertions.canonical;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class IncrementalSCCTest {
+
+    private static void assertMatchesRecompute(Graph graph, IncrementalSCC incremental) {
+        SCCResult expected = new TarjanSCC().findSCCs(graph);
+        SCCResult actual = incremental.toSCCResult();
+        int n = graph.getVertexCount();
+
+        assertEquals(expected.getComponentCount(), incremental.getComponentCount());
+        assertArrayEquals(canonical(expected, n), canonical(actual, n));
+        assertEquals(expected.getCondensationGraph().getEdgeCount(), actual.getCondensationGraph().getEdgeCount());
+
+        // Components are numbered in topological order of the condensation
+        Graph condensation = actual.getCondensationGraph();
+        for (int c = 0; c < condensation.getVertexCount(); c++) {
+            for (int i = 0; i < condensation.getOutDegree(c); i++) {
+                assertTrue(c < condensation.getNeighbor(c, i), "Arc " + c + " -> " + condensation.getNeighbor(c, i));
+            }
+        }
+
+        // Per-component queries agree with the materialized result
+        for (int v = 0; v < n; v++) {
+            int c = actual.getComponentId(v);
+            assertEquals(actual.getComponentVertices(c), incremental.getComponentMembers(v));
+            List<Integer> successors = incremental.getSuccessorComponents(v);
+            assertEquals(condensation.getOutDegree(c), successors.size());
+            for (int w : successors) {
+                assertEquals(w, incremental.getRepresentative(w));
+                assertTrue(incremental.getTopologicalPosition(v) < incremental.getTopologicalPosition(w));
+            }
+        }
+    }
+
+    @Test
+    public void testCycleClosingMerges() {
+        IncrementalSCC incremental = new IncrementalSCC(4);
+        incremental.addEdge(0, 1, 5);
+        incremental.addEdge(1, 2, 5);
+        incremental.addEdge(2, 3, 5);
+        assertEquals(4, incremental.getComponentCount());
+
+        incremental.addEdge(2, 0, 5);
+        assertEquals(2, incremental.getComponentCount());
+        assertTrue(incremental.areInSameComponent(0, 2));
+        assertFalse(incremental.areInSameComponent(0, 3));
+
+        SCCResult result = incremental.toSCCResult();
+        assertEquals(List.of(0, 1, 2), result.getComponentVertices(0));
+        assertEquals(1, result.getCondensationGraph().getEdgeCount());
+    }
+
+    @Test
+    public void testBatchesMatchRecompute() {
+        int n = 2_000;
+        Graph graph = new Graph(n, true);
+        new RMatGenerator(n, 2_500, 3).emit(graph);
+        IncrementalSCC incremental = new IncrementalSCC(graph);
+        assertMatchesRecompute(graph, incremental);
+
+        Random random = new Random(17);
+        for (int round = 0; round < 30; round++) {
+            List<Edge> batch = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                Edge edge = new Edge(random.nextInt(n), random.nextInt(n), random.nextInt(10) + 1);
+                batch.add(edge);
+                graph.addEdge(edge.getFrom(), edge.getTo(), edge.getWeight());
+            }
+            incremental.addEdges(batch, new MetricsCollector());
+            assertMatchesRecompute(graph, incremental);
+        }
+    }
+
+    @Test
+    public void testInsertionsFromEmptyMatchRecompute() {
+        int n = 300;
+        Graph graph = new Graph(n, true);
+        IncrementalSCC incremental = new IncrementalSCC(n);
+
+        // Merges in the middle of the order must not push descendants below their predecessors
+        Random random = new Random(0);
+        for (int i = 1; i <= 900; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            graph.addEdge(u, v, 1);
+            incremental.addEdge(u, v, 1);
+            if (i % 30 == 0) {
+                assertMatchesRecompute(graph, incremental);
+            }
+        }
+    }
+
+    @Test
+    public void testOrderedInsertionTouchesNothing() {
+        Graph chain = new Graph(1_000, true);
+        for (int u = 0; u + 1 < 1_000; u++) {
+            chain.addEdge(u, u + 1, 1);
+        }
+        IncrementalSCC incremental = new IncrementalSCC(chain);
+
+        MetricsCollector forward = new MetricsCollector();
+        incremental.addEdges(List.of(new Edge(10, 900, 1)), forward);
+        assertEquals(0, forward.getEdgeTraversals());
+
+        // A back arc only searches the components between its endpoints
+        MetricsCollector back = new MetricsCollector();
+        incremental.addEdges(List.of(new Edge(60, 50, 1)), back);
+        assertEquals(990, incremental.getComponentCount());
+        assertTrue(back.getDFSVisits() <= 2 * 11, "Visited " + back.getDFSVisits());
+    }
+}
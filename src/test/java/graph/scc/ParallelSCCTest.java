@@ -0,0 +1,117 @@
+package graph.scc;
+
+import generator.GraphGenerator;
+import generator.RMatGenerator;
+import generator.WorkloadProfile;
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.metrics.MetricsCollector;
+import org.junit.jupiter.api.Test;
+import static graph.scc.SCCAssertions.canonical;
+import static graph.scc.SCCAssertions.shuffledTwoCycleChain;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelSCCTest {
+
+    private static void assertMatchesTarjan(GraphView graph, ForkJoinPool pool) {
+        SCCResult expected = new TarjanSCC().findSCCs(graph);
+        SCCResult actual = new ParallelSCC(pool).findSCCs(graph, new MetricsCollector());
+
+        assertEquals(expected.getComponentCount(), actual.getComponentCount());
+        assertArrayEquals(canonical(expected, graph.getVertexCount()), canonical(actual, graph.getVertexCount()));
+        assertEquals(expected.getCondensationGraph().getEdgeCount(), actual.getCondensationGraph().getEdgeCount());
+    }
+
+    @Test
+    public void testSmallGraph() {
+        Graph graph = new Graph(8, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 3, 1);
+        graph.addEdge(5, 5, 1);
+        graph.addEdge(6, 7, 1);
+
+        SCCResult result = new ParallelSCC().findSCCs(graph);
+        assertEquals(5, result.getComponentCount());
+        assertEquals(List.of(0, 1, 2), result.getComponentVertices(0));
+        assertTrue(result.areInSameComponent(3, 4));
+        assertFalse(result.areInSameComponent(6, 7));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertMatchesTarjan(graph, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchesTarjanOnPowerLawGraphs() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 3; seed++) {
+                CSRGraph rmat = new RMatGenerator(20_000, 60_000, seed).generate();
+                assertMatchesTarjan(rmat, single);
+                assertMatchesTarjan(rmat, several);
+            }
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchesTarjanOnWorkloads() {
+        GraphGenerator generator = new GraphGenerator(5);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (WorkloadProfile profile : WorkloadProfile.values()) {
+                assertMatchesTarjan(generator.generateWorkload(profile, 50_000), pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testShuffledChainAcrossSerialCutoff() {
+        int n = 3 * ParallelSCC.SERIAL_PARTITION;
+        CSRGraph chain = shuffledTwoCycleChain(n, 3);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertMatchesTarjan(chain, pool);
+            assertEquals(n / 2, new ParallelSCC(pool).findSCCs(chain).getComponentCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSameResultForAnyPoolSize() {
+        CSRGraph rmat = new RMatGenerator(5_000, 20_000, 8).generate();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            assertEquals(new ParallelSCC(single).findSCCs(rmat).getComponents(),
+                    new ParallelSCC(several).findSCCs(rmat).getComponents());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testSelectionBySize() {
+        Graph small = new Graph(3, true);
+        small.addEdge(0, 1, 1);
+        assertTrue(SCCAlgorithm.select(small) instanceof TarjanSCC);
+    }
+}
@@ -0,0 +1,88 @@
+package graph.scc;
+
+import generator.RMatGenerator;
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.metrics.MetricsCollector;
+import org.junit.jupiter.api.Test;
+import static graph.scc.SCCAssertions.canonical;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class PartitionedSCCTest {
+
+    /** Independent R-MAT districts laid side by side, with their ids interleaved. */
+    private static CSRGraph districts(int count, int size) {
+        int n = count * size;
+        CSRGraph.Builder builder = new CSRGraph.Builder(n, true);
+        for (int d = 0; d < count; d++) {
+            int district = d;
+            new RMatGenerator(size, 3L * size, d).emit((u, v, w) ->
+                    builder.addEdge(u * count + district, v * count + district, w));
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testMatchesTarjanOnDistricts() {
+        CSRGraph graph = districts(64, 1_000);
+        SCCResult expected = new TarjanSCC().findSCCs(graph);
+        MetricsCollector metrics = new MetricsCollector();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SCCResult actual;
+        try {
+            actual = new PartitionedSCC(pool).findSCCs(graph, metrics);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(expected.getComponentCount(), actual.getComponentCount());
+        assertArrayEquals(canonical(expected, graph.getVertexCount()), canonical(actual, graph.getVertexCount()));
+        assertEquals(expected.getCondensationGraph().getEdgeCount(), actual.getCondensationGraph().getEdgeCount());
+        assertEquals(graph.getVertexCount(), metrics.getDFSVisits());
+
+        // Condensation arcs connect the components of their endpoints
+        Graph condensation = actual.getCondensationGraph();
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            for (int i = 0; i < graph.getOutDegree(u); i++) {
+                int cu = actual.getComponentId(u);
+                int cv = actual.getComponentId(graph.getNeighbor(u, i));
+                if (cu != cv) {
+                    boolean found = false;
+                    for (int j = 0; j < condensation.getOutDegree(cu); j++) {
+                        found |= condensation.getNeighbor(cu, j) == cv;
+                    }
+                    assertTrue(found, "Missing condensation arc " + cu + " -> " + cv);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSameResultForAnyPoolSize() {
+        CSRGraph graph = districts(40, 800);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(3);
+        try {
+            assertEquals(new PartitionedSCC(single).findSCCs(graph).getComponents(),
+                    new PartitionedSCC(several).findSCCs(graph).getComponents());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    public void testSmallGraphMatchesTarjanExactly() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 4, 1);
+
+        assertEquals(new TarjanSCC().findSCCs(graph).getComponents(),
+                new PartitionedSCC().findSCCs(graph).getComponents());
+    }
+}
@@ -0,0 +1,81 @@
+package graph.scc;
+
+import generator.GraphGenerator;
+import generator.RMatGenerator;
+import generator.WorkloadProfile;
+import graph.core.CSRGraph;
+import graph.core.Graph;
+import graph.core.GraphView;
+import graph.metrics.MetricsCollector;
+import org.junit.jupiter.api.Test;
+import static graph.scc.SCCAssertions.canonical;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+public class SCCAlgorithmTest {
+
+    private static void assertAllAgree(GraphView graph) {
+        MetricsCollector tarjanMetrics = new MetricsCollector();
+        SCCResult tarjan = new TarjanSCC().findSCCs(graph, tarjanMetrics);
+
+        // Gabow follows Tarjan's discovery order exactly
+        MetricsCollector gabowMetrics = new MetricsCollector();
+        SCCResult gabow = new GabowSCC().findSCCs(graph, gabowMetrics);
+        assertEquals(tarjan.getComponents(), gabow.getComponents());
+        assertEquals(tarjanMetrics.getDFSVisits(), gabowMetrics.getDFSVisits());
+        assertEquals(tarjanMetrics.getEdgeTraversals(), gabowMetrics.getEdgeTraversals());
+
+        MetricsCollector kosarajuMetrics = new MetricsCollector();
+        SCCResult kosaraju = new KosarajuSCC().findSCCs(graph, kosarajuMetrics);
+        int n = graph.getVertexCount();
+        assertArrayEquals(canonical(tarjan, n), canonical(kosaraju, n));
+        assertEquals(tarjan.getCondensationGraph().getEdgeCount(), kosaraju.getCondensationGraph().getEdgeCount());
+        assertEquals(2 * n, kosarajuMetrics.getDFSVisits());
+    }
+
+    @Test
+    public void testSmallGraph() {
+        Graph graph = new Graph(7, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 3, 1);
+        graph.addEdge(6, 6, 1);
+        assertAllAgree(graph);
+
+        // Kosaraju lists components in topological order of the condensation
+        SCCResult kosaraju = new KosarajuSCC().findSCCs(graph);
+        assertTrue(kosaraju.getComponentId(0) < kosaraju.getComponentId(3));
+    }
+
+    @Test
+    public void testAgreeOnPowerLawGraphs() {
+        for (long seed = 1; seed <= 3; seed++) {
+            assertAllAgree(new RMatGenerator(10_000, 40_000, seed).generate());
+        }
+    }
+
+    @Test
+    public void testAgreeOnDeepWorkloads() {
+        GraphGenerator generator = new GraphGenerator(2);
+        assertAllAgree(generator.generateWorkload(WorkloadProfile.DEEP_CHAIN, 300_000));
+        assertAllAgree(generator.generateWorkload(WorkloadProfile.GIANT_SCC, 300_000));
+    }
+
+    @Test
+    public void testBenchmarkPicksACandidate() {
+        CSRGraph graph = new RMatGenerator(2_000, 8_000, 4).generate();
+        List<SCCAlgorithm> candidates = List.of(new TarjanSCC(), new GabowSCC(), new KosarajuSCC());
+
+        Map<String, Long> medians = SCCBenchmark.measure(graph, candidates, 3);
+        assertEquals(List.of("TarjanSCC", "GabowSCC", "KosarajuSCC"), List.copyOf(medians.keySet()));
+
+        SCCAlgorithm fastest = SCCBenchmark.fastest(graph, candidates, 3);
+        assertTrue(candidates.contains(fastest));
+    }
+}
@@ -0,0 +1,53 @@
+package graph.scc;
+
+import graph.core.CSRGraph;
+import java.util.List;
+import java.util.Random;
+
+/** Helpers shared by the SCC engine tests. */
+final class SCCAssertions {
+    private SCCAssertions() {
+    }
+
+    /** Smallest member of each vertex's component: equal arrays mean equal partitions. */
+    static int[] canonical(SCCResult result, int n) {
+        int[] smallest = new int[n];
+        for (List<Integer> component : result.getComponents()) {
+            int min = Integer.MAX_VALUE;
+            for (int v : component) {
+                min = Math.min(min, v);
+            }
+            for (int v : component) {
+                smallest[v] = min;
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * 2-cycles linked into one path over shuffled vertex ids: forward-backward search splits
+     * it into long thin partitions. Has {@code n / 2} components.
+     */
+    static CSRGraph shuffledTwoCycleChain(int n, long seed) {
+        int[] id = new int[n];
+        for (int i = 0; i < n; i++) {
+            id[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = id[i];
+            id[i] = id[j];
+            id[j] = t;
+        }
+        CSRGraph.Builder builder = new CSRGraph.Builder(n, true);
+        for (int p = 0; p < n / 2; p++) {
+            builder.addEdge(id[2 * p], id[2 * p + 1], 1);
+            builder.addEdge(id[2 * p + 1], id[2 * p], 1);
+            if (2 * p + 2 < n) {
+                builder.addEdge(id[2 * p + 1], id[2 * p + 2], 1);
+            }
+        }
+        return builder.build();
+    }
+}
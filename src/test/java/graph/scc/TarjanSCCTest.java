@@ -1,13 +1,19 @@
 package graph.scc;
 
+import graph.core.CSRGraph;
 import graph.core.Graph;
+import graph.core.GraphNormalizer;
+import graph.core.ReorderedGraph;
+import graph.core.VertexOrdering;
 import graph.metrics.MetricsCollector;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
 
 public class TarjanSCCTest {
 
@@ -188,4 +194,135 @@ public class TarjanSCCTest {
         graph.topo.TopoResult topoResult = topoSort.kahnSort(condensation);
         assertTrue(topoResult.isDAG(), "Condensation graph should be a DAG");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCondenseMergesParallelComponentArcs() {
+        Graph graph = new Graph(4, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 2, 1);
+        graph.addEdge(0, 2, 5);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(1, 2, 7);
+
+        SCCResult result = new TarjanSCC().findSCCs(graph);
+        int from = result.getComponentId(0);
+        int to = result.getComponentId(2);
+
+        CSRGraph shortest = result.condense(graph, GraphNormalizer.MergePolicy.MIN);
+        CSRGraph longest = result.condense(graph, GraphNormalizer.MergePolicy.MAX);
+        assertEquals(1, shortest.getEdgeCount());
+        assertEquals(to, shortest.getNeighbor(from, 0));
+        assertEquals(2, shortest.getNeighborWeight(from, 0));
+        assertEquals(7, longest.getNeighborWeight(from, 0));
+        assertEquals(5, result.getCondensationCSR().getNeighborWeight(from, 0), "First arc found");
+    }
+
+    @Test
+    public void testCSRGraphMatchesAdjacencyList() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 3, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 5, 1);
+
+        CSRGraph csr = graph.toCSR();
+        assertEquals(graph.getEdgeCount(), csr.getEdgeCount());
+
+        TarjanSCC tarjan = new TarjanSCC();
+        SCCResult expected = tarjan.findSCCs(graph);
+        SCCResult actual = tarjan.findSCCs(csr);
+
+        assertEquals(expected.getComponents(), actual.getComponents());
+        assertEquals(expected.getCondensationGraph().getEdgeCount(),
+                actual.getCondensationGraph().getEdgeCount());
+    }
+
+    @Test
+    public void testReorderedGraphReportsOriginalIds() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(5, 3, 1);
+        graph.addEdge(3, 1, 1);
+        graph.addEdge(1, 5, 1);
+        graph.addEdge(0, 4, 1);
+        graph.addEdge(4, 0, 1);
+        graph.addEdge(1, 2, 1);
+
+        ReorderedGraph reordered = VertexOrdering.reverseCuthillMcKee(graph).apply(graph);
+
+        TarjanSCC tarjan = new TarjanSCC();
+        SCCResult result = tarjan.findSCCs(reordered, new MetricsCollector());
+
+        assertEquals(3, result.getComponentCount());
+        assertTrue(result.areInSameComponent(1, 3));
+        assertTrue(result.areInSameComponent(3, 5));
+        assertTrue(result.areInSameComponent(0, 4));
+        assertFalse(result.areInSameComponent(2, 1));
+        assertFalse(result.areInSameComponent(0, 5));
+    }
+
+    @Test
+    public void testDeepCycleWithoutRecursion() {
+        int n = 1_000_000;
+        CSRGraph.Builder builder = new CSRGraph.Builder(n + 1, true);
+        for (int u = 0; u < n; u++) {
+            builder.addEdge(u, (u + 1) % n, 1);
+        }
+        builder.addEdge(n - 1, n, 1);
+
+        MetricsCollector metrics = new MetricsCollector();
+        SCCResult result = new TarjanSCC().findSCCs(builder.build(), metrics);
+        assertEquals(2, result.getComponentCount());
+        assertEquals(n, result.getComponentVertices(1).size());
+        assertEquals(n + 1, metrics.getDFSVisits());
+    }
+
+    @Test
+    public void testCondensationAcrossRangesKeepsFirstArc() {
+        int n = 3 * Condensation.RANGE_VERTICES + 100;
+        int components = 50;
+        Random random = new Random(5);
+        CSRGraph.Builder builder = new CSRGraph.Builder(n, true);
+        for (int i = 0; i < 4 * n; i++) {
+            builder.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(100) + 1);
+        }
+        CSRGraph graph = builder.build();
+        int[] component = new int[n];
+        for (int u = 0; u < n; u++) {
+            component[u] = u % components;
+        }
+
+        // Reference: one scan in vertex order, keeping the first arc per component pair
+        Graph expected = new Graph(components, true);
+        Set<String> added = new HashSet<>();
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < graph.getOutDegree(u); i++) {
+                int cv = component[graph.getNeighbor(u, i)];
+                if (component[u] != cv && added.add(component[u] + "->" + cv)) {
+                    expected.addEdge(component[u], cv, graph.getNeighborWeight(u, i));
+                }
+            }
+        }
+
+        MetricsCollector metrics = new MetricsCollector();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            CSRGraph actual = Condensation.build(graph, components, component, metrics, pool);
+            assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+            for (int c = 0; c < components; c++) {
+                assertEquals(expected.getOutDegree(c), actual.getOutDegree(c), "Degree of " + c);
+                for (int i = 0; i < expected.getOutDegree(c); i++) {
+                    assertEquals(expected.getNeighbor(c, i), actual.getNeighbor(c, i));
+                    assertEquals(expected.getNeighborWeight(c, i), actual.getNeighborWeight(c, i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(graph.getEdgeCount(), metrics.getEdgeTraversals());
+    }
+}
@@ -1,5 +1,7 @@
 package graph.topo;
 
+import graph.core.CSRGraph;
+import graph.core.CompressedGraph;
 import graph.core.Graph;
 import graph.metrics.MetricsCollector;
 import graph.scc.SCCResult;
@@ -169,4 +171,48 @@ public class TopologicalSortTest {
         assertTrue(kahnResult.isValidOrder(graph));
         assertTrue(dfsResult.isValidOrder(graph));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCompressedGraph() {
+        Graph graph = new Graph(6, true);
+        graph.addEdge(5, 0, 1);
+        graph.addEdge(5, 2, 1);
+        graph.addEdge(4, 0, 1);
+        graph.addEdge(4, 1, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 1, 1);
+
+        CompressedGraph compressed = CompressedGraph.fromGraph(graph);
+        TopologicalSort topoSort = new TopologicalSort();
+        TopoResult result = topoSort.kahnSort(compressed);
+
+        assertTrue(result.isDAG());
+        assertEquals(6, result.getOrder().size());
+        assertTrue(result.isValidOrder(graph));
+    }
+
+    @Test
+    public void testDeepChainWithoutRecursion() {
+        int n = 1_000_000;
+        CSRGraph.Builder builder = new CSRGraph.Builder(n, true);
+        for (int u = 0; u + 1 < n; u++) {
+            builder.addEdge(u, u + 1, 1);
+        }
+        CSRGraph chain = builder.build();
+
+        MetricsCollector metrics = new MetricsCollector();
+        TopoResult result = new TopologicalSort().dfsSort(chain, metrics);
+        assertTrue(result.isDAG());
+        assertEquals(0, result.getOrder().get(0));
+        assertEquals(n - 1, result.getOrder().get(n - 1));
+        assertEquals(n, metrics.getDFSVisits());
+        assertEquals(n - 1, metrics.getEdgeTraversals());
+
+        // Closing the chain into a cycle must be detected at any depth
+        CSRGraph.Builder cyclic = new CSRGraph.Builder(n, true);
+        for (int u = 0; u < n; u++) {
+            cyclic.addEdge(u, (u + 1) % n, 1);
+        }
+        assertFalse(new TopologicalSort().dfsSort(cyclic.build()).isDAG());
+    }
+}